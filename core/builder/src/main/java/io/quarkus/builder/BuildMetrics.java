@@ -0,0 +1,282 @@
+package io.quarkus.builder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The timing of the build steps executed during a build.
+ * <p>
+ * The critical path is the chain of steps that determined the duration of the build: starting with the step that finished
+ * last, each step is preceded by the dependency that finished last, i.e. the dependency the step was waiting for.
+ */
+public final class BuildMetrics {
+
+    private final long nanos;
+    private final List<StepMetrics> steps;
+    private final List<StepMetrics> criticalPath;
+
+    BuildMetrics(final Map<StepInfo, StepMetrics> recorded, final long startNanos, final long nanos) {
+        this.nanos = nanos;
+        final List<StepMetrics> steps = new ArrayList<>(recorded.values());
+        for (StepMetrics step : steps) {
+            step.normalize(startNanos);
+        }
+        steps.sort(Comparator.comparingLong(StepMetrics::getStartNanos));
+        this.steps = Collections.unmodifiableList(steps);
+        this.criticalPath = Collections.unmodifiableList(computeCriticalPath(recorded));
+    }
+
+    /**
+     * Get the amount of elapsed time from the time the build was initiated to the time it was completed.
+     *
+     * @param timeUnit the time unit to return
+     * @return the time
+     */
+    public long getDuration(TimeUnit timeUnit) {
+        return timeUnit.convert(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Get the executed steps sorted by the start time.
+     *
+     * @return the executed steps (not {@code null})
+     */
+    public List<StepMetrics> getSteps() {
+        return steps;
+    }
+
+    /**
+     * Get the critical path, the first step of the path is the first element of the list.
+     *
+     * @return the steps on the critical path (not {@code null})
+     */
+    public List<StepMetrics> getCriticalPath() {
+        return criticalPath;
+    }
+
+    /**
+     * Write a human readable report: the critical path and the slowest steps.
+     *
+     * @param writer the target writer (must not be {@code null})
+     * @param limit the max number of slowest steps to include
+     * @throws IOException if writing fails
+     */
+    public void writeReport(Writer writer, int limit) throws IOException {
+        writer.write(String.format("Build completed in %d ms, %d steps executed%n", getDuration(TimeUnit.MILLISECONDS),
+                steps.size()));
+        writer.write(String.format("%nCritical path (%d ms):%n", criticalPath.isEmpty() ? 0
+                : TimeUnit.NANOSECONDS.toMillis(criticalPath.get(criticalPath.size() - 1).getEndNanos()
+                        - criticalPath.get(0).getStartNanos())));
+        for (StepMetrics step : criticalPath) {
+            if (!step.getCriticalPathItems().isEmpty()) {
+                writer.write(String.format("       waiting for %s%n", step.getCriticalPathItems()));
+            }
+            writer.write(String.format("%6d ms  %s [%s]%n", step.getDuration(TimeUnit.MILLISECONDS), step.getName(),
+                    step.getThreadName()));
+        }
+        final List<StepMetrics> slowest = new ArrayList<>(steps);
+        slowest.sort(Comparator.comparingLong(StepMetrics::getDurationNanos).reversed());
+        writer.write(String.format("%nSlowest steps:%n"));
+        for (StepMetrics step : slowest.subList(0, Math.min(limit, slowest.size()))) {
+            writer.write(String.format("%6d ms  %s [%s]%n", step.getDuration(TimeUnit.MILLISECONDS), step.getName(),
+                    step.getThreadName()));
+        }
+        writer.flush();
+    }
+
+    /**
+     * Write the steps as complete events in the Chrome trace event format. The file can be opened in
+     * {@code chrome://tracing} or any other compatible viewer.
+     *
+     * @param writer the target writer (must not be {@code null})
+     * @throws IOException if writing fails
+     */
+    public void writeChromeTrace(Writer writer) throws IOException {
+        final Map<String, Integer> threadIds = new HashMap<>();
+        writer.write("{\"traceEvents\":[");
+        boolean first = true;
+        for (StepMetrics step : steps) {
+            if (!first) {
+                writer.write(',');
+            }
+            first = false;
+            final Integer tid = threadIds.computeIfAbsent(step.getThreadName(), n -> threadIds.size() + 1);
+            writer.write(String.format(
+                    "%n{\"name\":%s,\"cat\":\"%s\",\"ph\":\"X\",\"ts\":%d,\"dur\":%d,\"pid\":1,\"tid\":%d}",
+                    quote(step.getName()), criticalPath.contains(step) ? "critical" : "step",
+                    TimeUnit.NANOSECONDS.toMicros(step.getStartNanos()),
+                    TimeUnit.NANOSECONDS.toMicros(step.getDurationNanos()), tid));
+        }
+        for (Map.Entry<String, Integer> thread : threadIds.entrySet()) {
+            writer.write(String.format(",%n{\"name\":\"thread_name\",\"ph\":\"M\",\"pid\":1,\"tid\":%d,\"args\":{\"name\":%s}}",
+                    thread.getValue(), quote(thread.getKey())));
+        }
+        writer.write(String.format("%n],\"displayTimeUnit\":\"ms\"}%n"));
+        writer.flush();
+    }
+
+    private static List<StepMetrics> computeCriticalPath(final Map<StepInfo, StepMetrics> recorded) {
+        if (recorded.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final Map<StepInfo, List<StepInfo>> dependencies = new HashMap<>();
+        StepInfo last = null;
+        for (Map.Entry<StepInfo, StepMetrics> entry : recorded.entrySet()) {
+            for (StepInfo dependent : entry.getKey().getDependents()) {
+                dependencies.computeIfAbsent(dependent, d -> new ArrayList<>()).add(entry.getKey());
+            }
+            if (last == null || entry.getValue().getEndNanos() > recorded.get(last).getEndNanos()) {
+                last = entry.getKey();
+            }
+        }
+        final List<StepMetrics> path = new ArrayList<>();
+        StepInfo current = last;
+        while (current != null) {
+            final StepMetrics metrics = recorded.get(current);
+            path.add(metrics);
+            StepInfo previous = null;
+            for (StepInfo dependency : dependencies.getOrDefault(current, Collections.emptyList())) {
+                final StepMetrics dependencyMetrics = recorded.get(dependency);
+                if (dependencyMetrics != null
+                        && (previous == null || dependencyMetrics.getEndNanos() > recorded.get(previous).getEndNanos())) {
+                    previous = dependency;
+                }
+            }
+            if (previous != null) {
+                // The items produced by the previous step and consumed by the current step
+                final Set<String> items = new LinkedHashSet<>();
+                for (ItemId id : previous.getProduces()) {
+                    if (current.getConsumes().contains(id)) {
+                        items.add(id.getType().getSimpleName());
+                    }
+                }
+                metrics.criticalPathItems = new ArrayList<>(items);
+            }
+            current = previous;
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private static String quote(String value) {
+        final StringBuilder builder = new StringBuilder(value.length() + 2);
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+            }
+        }
+        return builder.append('"').toString();
+    }
+
+    /**
+     * The timing of a single build step.
+     */
+    public static final class StepMetrics {
+        private final String name;
+        private final String threadName;
+        private long startNanos;
+        private long endNanos;
+        private List<String> criticalPathItems = Collections.emptyList();
+
+        StepMetrics(final String name, final String threadName, final long startNanos, final long endNanos) {
+            this.name = name;
+            this.threadName = threadName;
+            this.startNanos = startNanos;
+            this.endNanos = endNanos;
+        }
+
+        void normalize(final long buildStartNanos) {
+            startNanos -= buildStartNanos;
+            endNanos -= buildStartNanos;
+        }
+
+        /**
+         * Get the name of the step.
+         *
+         * @return the name of the step
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Get the name of the thread that executed the step.
+         *
+         * @return the name of the thread
+         */
+        public String getThreadName() {
+            return threadName;
+        }
+
+        /**
+         * Get the start of the step, relative to the start of the build.
+         *
+         * @return the start in nanoseconds
+         */
+        public long getStartNanos() {
+            return startNanos;
+        }
+
+        /**
+         * Get the end of the step, relative to the start of the build.
+         *
+         * @return the end in nanoseconds
+         */
+        public long getEndNanos() {
+            return endNanos;
+        }
+
+        public long getDurationNanos() {
+            return endNanos - startNanos;
+        }
+
+        public long getDuration(TimeUnit timeUnit) {
+            return timeUnit.convert(getDurationNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Get the simple names of the items this step consumed from the previous step on the critical path.
+         *
+         * @return the item names, empty if the step is not on the critical path or is the first step
+         */
+        public List<String> getCriticalPathItems() {
+            return criticalPathItems;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -36,6 +36,7 @@ final class Execution {
     private final String buildTargetName;
     private final AtomicBoolean errorReported = new AtomicBoolean();
     private final AtomicInteger lastStepCount = new AtomicInteger();
+    private final ConcurrentHashMap<StepInfo, BuildMetrics.StepMetrics> stepMetrics = new ConcurrentHashMap<>();
     private volatile Thread runningThread;
     private volatile boolean done;
 
@@ -116,8 +117,9 @@ final class Execution {
         }
         if (lastStepCount.get() > 0)
             throw new BuildException("Extra steps left over", Collections.emptyList());
-        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics),
-                max(0, System.nanoTime() - start));
+        final long duration = max(0, System.nanoTime() - start);
+        return new BuildResult(singles, multis, finalIds, Collections.unmodifiableList(diagnostics), duration,
+                new BuildMetrics(stepMetrics, start, duration));
     }
 
     EnhancedQueueExecutor getExecutor() {
@@ -148,6 +150,11 @@ final class Execution {
         return chain;
     }
 
+    void stepFinished(StepInfo stepInfo, long startNanos, long endNanos) {
+        stepMetrics.put(stepInfo, new BuildMetrics.StepMetrics(stepInfo.getBuildStep().toString(),
+                Thread.currentThread().getName(), startNanos, endNanos));
+    }
+
     void depFinished() {
         final int count = lastStepCount.decrementAndGet();
         log.tracef("End step completed; %d remaining", count);
@@ -0,0 +1,101 @@
+package io.quarkus.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ */
+public class BuildMetricsTest {
+
+    public static final class DummyItem extends SimpleBuildItem {
+    }
+
+    public static final class DummyItem2 extends SimpleBuildItem {
+    }
+
+    public static final class DummyItem3 extends SimpleBuildItem {
+    }
+
+    @Test
+    public void testCriticalPath() throws ChainBuildException, BuildException, IOException {
+        final BuildChainBuilder builder = BuildChain.builder();
+        BuildStepBuilder stepBuilder = builder.addBuildStep(new NamedStep("slow") {
+            @Override
+            public void execute(final BuildContext context) {
+                sleep(50);
+                context.produce(new DummyItem());
+            }
+        });
+        stepBuilder.produces(DummyItem.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new NamedStep("fast") {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem2());
+            }
+        });
+        stepBuilder.produces(DummyItem2.class);
+        stepBuilder.build();
+        stepBuilder = builder.addBuildStep(new NamedStep("last") {
+            @Override
+            public void execute(final BuildContext context) {
+                context.produce(new DummyItem3());
+            }
+        });
+        stepBuilder.consumes(DummyItem.class);
+        stepBuilder.consumes(DummyItem2.class);
+        stepBuilder.produces(DummyItem3.class);
+        stepBuilder.build();
+        builder.addFinal(DummyItem3.class);
+        final BuildResult result = builder.build().createExecutionBuilder("my-app.jar").execute();
+
+        final BuildMetrics metrics = result.getMetrics();
+        assertEquals(3, metrics.getSteps().size());
+        final List<BuildMetrics.StepMetrics> criticalPath = metrics.getCriticalPath();
+        assertEquals(2, criticalPath.size());
+        assertEquals("slow", criticalPath.get(0).getName());
+        assertEquals("last", criticalPath.get(1).getName());
+        assertEquals(Collections.singletonList("DummyItem"), criticalPath.get(1).getCriticalPathItems());
+        assertTrue(criticalPath.get(0).getEndNanos() <= criticalPath.get(1).getStartNanos());
+
+        final StringWriter report = new StringWriter();
+        metrics.writeReport(report, 10);
+        assertTrue(report.toString().contains("waiting for [DummyItem]"), report.toString());
+        final StringWriter trace = new StringWriter();
+        metrics.writeChromeTrace(trace);
+        assertTrue(trace.toString().startsWith("{\"traceEvents\":["), trace.toString());
+        assertTrue(trace.toString().contains("\"name\":\"slow\",\"cat\":\"critical\""), trace.toString());
+        assertTrue(trace.toString().contains("\"name\":\"fast\",\"cat\":\"step\""), trace.toString());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    abstract static class NamedStep implements BuildStep {
+
+        private final String name;
+
+        NamedStep(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
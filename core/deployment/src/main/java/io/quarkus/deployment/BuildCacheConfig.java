@@ -0,0 +1,26 @@
+package io.quarkus.deployment;
+
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+/**
+ * The persistent build cache, see {@link io.quarkus.deployment.builditem.BuildCacheBuildItem}.
+ */
+@ConfigRoot
+public class BuildCacheConfig {
+
+    /**
+     * If set to true, the results of expensive build steps, such as the Jandex index of a dependency without an index, are
+     * stored on disk and reused by subsequent builds and dev mode restarts as long as their inputs do not change
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean enabled;
+
+    /**
+     * The directory of the build cache. If not set, {@code quarkus-build-cache} in the build output directory is used.
+     */
+    @ConfigItem
+    public Optional<String> directory;
+}
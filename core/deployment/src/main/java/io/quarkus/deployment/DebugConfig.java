@@ -25,4 +25,11 @@ public class DebugConfig {
      */
     @ConfigItem
     Optional<String> generatedClassesDir;
+
+    /**
+     * If set to a directory, the timing of the build steps is written into that directory: a report with the critical path
+     * and the slowest steps, and a trace file in the Chrome trace event format
+     */
+    @ConfigItem
+    Optional<String> buildMetricsDir;
 }
@@ -25,4 +25,20 @@ public class LiveReloadConfig {
      */
     @ConfigItem
     Optional<String> url;
+
+    /**
+     * If set to true, the dev mode tracks the changes of the source, classes and resources directories with a native file
+     * system watch service, so that a scan only checks the changed files. If set to false, or if no native watch service is
+     * available, the directories are walked on every scan. This can only be set as a system property.
+     */
+    @ConfigItem(defaultValue = "true")
+    boolean watchService;
+
+    /**
+     * If set to true, the application classes are loaded in parallel before the application is started. The classes loaded
+     * by the previous run are preloaded, or the generated application classes if there was no previous run. The classes are
+     * not initialized. This can only be set as a system property.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean preloadClasses;
 }
@@ -1,9 +1,13 @@
 package io.quarkus.deployment;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -39,6 +43,8 @@ public class QuarkusAugmentor {
 
     private static final Logger log = Logger.getLogger(QuarkusAugmentor.class);
 
+    private static final String BUILD_METRICS_DIR = "quarkus.debug.build-metrics-dir";
+
     private final ClassLoader classLoader;
     private final Path root;
     private final Set<Class<? extends BuildItem>> finalResults;
@@ -126,6 +132,7 @@ public class QuarkusAugmentor {
             }
             BuildResult buildResult = execBuilder
                     .execute();
+            writeBuildMetrics(buildResult);
             String message = "Quarkus augmentation completed in " + (System.currentTimeMillis() - time) + "ms";
             if (launchMode == LaunchMode.NORMAL) {
                 log.info(message);
@@ -145,6 +152,31 @@ public class QuarkusAugmentor {
         }
     }
 
+    private void writeBuildMetrics(BuildResult buildResult) {
+        String metricsDir = System.getProperty(BUILD_METRICS_DIR);
+        if (metricsDir == null && buildSystemProperties != null) {
+            metricsDir = buildSystemProperties.getProperty(BUILD_METRICS_DIR);
+        }
+        if (metricsDir == null) {
+            return;
+        }
+        Path dir = Paths.get(metricsDir);
+        try {
+            Files.createDirectories(dir);
+            Path report = dir.resolve(baseName + "-build-metrics.txt");
+            try (Writer writer = Files.newBufferedWriter(report, StandardCharsets.UTF_8)) {
+                buildResult.getMetrics().writeReport(writer, 20);
+            }
+            try (Writer writer = Files.newBufferedWriter(dir.resolve(baseName + "-build-trace.json"),
+                    StandardCharsets.UTF_8)) {
+                buildResult.getMetrics().writeChromeTrace(writer);
+            }
+            log.infof("Build metrics written to %s", dir.toAbsolutePath());
+        } catch (IOException e) {
+            log.warnf(e, "Unable to write build metrics to %s", dir);
+        }
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -0,0 +1,151 @@
+package io.quarkus.deployment.builditem;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.deployment.util.HashUtil;
+
+/**
+ * An opt-in on-disk cache that build steps can use to reuse the results of expensive computations across builds, including
+ * dev mode restarts.
+ * <p>
+ * An entry is stored in a namespace, usually one per build step and result type, and is identified by a key that must be
+ * derived from all the inputs of the computation, see {@link #key(Object...)} and {@link #key(Path)}. The build items
+ * themselves are not cached: a build step still runs and only skips the work it can restore from the cache.
+ * <p>
+ * If the cache is disabled, {@link #get(String, String, EntryReader)} always returns {@code null} and
+ * {@link #put(String, String, Object, EntryWriter)} is a no-op. A corrupted or unreadable entry is treated as a miss.
+ */
+public final class BuildCacheBuildItem extends SimpleBuildItem {
+
+    private static final Logger LOGGER = Logger.getLogger(BuildCacheBuildItem.class);
+
+    private final Path directory;
+
+    /**
+     *
+     * @param directory the cache directory, {@code null} if the cache is disabled
+     */
+    public BuildCacheBuildItem(Path directory) {
+        this.directory = directory;
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     *
+     * @param namespace
+     * @param key
+     * @param reader
+     * @return the cached value or {@code null} if not found
+     */
+    public <T> T get(String namespace, String key, EntryReader<T> reader) {
+        if (directory == null) {
+            return null;
+        }
+        Path entry = entryPath(namespace, key);
+        try (InputStream in = Files.newInputStream(entry)) {
+            T value = reader.read(in);
+            LOGGER.debugf("Build cache hit: %s/%s", namespace, key);
+            return value;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Discarding unreadable build cache entry %s", entry);
+            try {
+                Files.deleteIfExists(entry);
+            } catch (IOException ignored) {
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Store the value. The entry is written to a temporary file first so that concurrent builds never read a partial entry.
+     * Failures are logged and ignored.
+     *
+     * @param namespace
+     * @param key
+     * @param value
+     * @param writer
+     */
+    public <T> void put(String namespace, String key, T value, EntryWriter<T> writer) {
+        if (directory == null) {
+            return;
+        }
+        Path entry = entryPath(namespace, key);
+        Path tmp = null;
+        try {
+            Files.createDirectories(entry.getParent());
+            tmp = Files.createTempFile(entry.getParent(), key, ".tmp");
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                writer.write(value, out);
+            }
+            try {
+                Files.move(tmp, entry, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Unable to store build cache entry %s", entry);
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    private Path entryPath(String namespace, String key) {
+        return directory.resolve(namespace).resolve(key);
+    }
+
+    /**
+     *
+     * @param inputs
+     * @return the key derived from the string representation of the inputs
+     */
+    public static String key(Object... inputs) {
+        StringBuilder builder = new StringBuilder();
+        for (Object input : inputs) {
+            builder.append(input).append('\0');
+        }
+        return HashUtil.sha1(builder.toString());
+    }
+
+    /**
+     *
+     * @param file
+     * @return the key derived from the absolute path, the size and the last modified time of the file
+     * @throws IOException
+     */
+    public static String key(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return key(file.toAbsolutePath(), attributes.size(), attributes.lastModifiedTime().toMillis());
+    }
+
+    public interface EntryReader<T> {
+
+        T read(InputStream in) throws IOException;
+
+    }
+
+    public interface EntryWriter<T> {
+
+        void write(T value, OutputStream out) throws IOException;
+
+    }
+}
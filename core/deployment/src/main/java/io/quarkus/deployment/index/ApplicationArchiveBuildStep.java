@@ -15,12 +15,19 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Enumeration;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Stream;
@@ -29,6 +36,7 @@ import java.util.zip.ZipEntry;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexReader;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
 import org.jboss.jandex.Indexer;
 import org.jboss.logging.Logger;
 
@@ -41,6 +49,7 @@ import io.quarkus.deployment.builditem.AdditionalApplicationArchiveMarkerBuildIt
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.ApplicationIndexBuildItem;
 import io.quarkus.deployment.builditem.ArchiveRootBuildItem;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
 import io.quarkus.deployment.builditem.IndexDependencyBuildItem;
 import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -56,6 +65,8 @@ public class ApplicationArchiveBuildStep {
     // At least Jandex 2.1 is needed
     private static final int REQUIRED_INDEX_VERSION = 8;
 
+    private static final String CACHE_NAMESPACE = "jandex";
+
     IndexDependencyConfiguration config;
 
     @ConfigRoot(phase = ConfigPhase.BUILD_TIME)
@@ -81,7 +92,7 @@ public class ApplicationArchiveBuildStep {
             List<AdditionalApplicationArchiveMarkerBuildItem> appMarkers,
             List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchiveBuildItem,
             List<IndexDependencyBuildItem> indexDependencyBuildItems,
-            LiveReloadBuildItem liveReloadContext) throws IOException {
+            LiveReloadBuildItem liveReloadContext, BuildCacheBuildItem buildCache) throws IOException {
 
         Set<String> markerFiles = new HashSet<>();
         for (AdditionalApplicationArchiveMarkerBuildItem i : appMarkers) {
@@ -95,7 +106,7 @@ public class ApplicationArchiveBuildStep {
         }
 
         List<ApplicationArchive> applicationArchives = scanForOtherIndexes(Thread.currentThread().getContextClassLoader(),
-                markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache);
+                markerFiles, root, additionalApplicationArchiveBuildItem, indexDependencyBuildItems, indexCache, buildCache);
         return new ApplicationArchivesBuildItem(
                 new ApplicationArchiveImpl(appindex.getIndex(), root.getArchiveRoot(), null, false, root.getArchiveLocation()),
                 applicationArchives);
@@ -103,7 +114,7 @@ public class ApplicationArchiveBuildStep {
 
     private List<ApplicationArchive> scanForOtherIndexes(ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root, List<AdditionalApplicationArchiveBuildItem> additionalApplicationArchives,
-            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache)
+            List<IndexDependencyBuildItem> indexDependencyBuildItem, IndexCache indexCache, BuildCacheBuildItem buildCache)
             throws IOException {
         Set<Path> dependenciesToIndex = new HashSet<>();
         //get paths that are included via index-dependencies
@@ -120,7 +131,7 @@ public class ApplicationArchiveBuildStep {
             dependenciesToIndex.add(i.getPath());
         }
 
-        return indexPaths(dependenciesToIndex, classLoader, indexCache);
+        return indexPaths(dependenciesToIndex, classLoader, indexCache, buildCache);
     }
 
     public List<Path> getIndexDependencyPaths(List<IndexDependencyBuildItem> indexDependencyBuildItems,
@@ -150,25 +161,94 @@ public class ApplicationArchiveBuildStep {
     }
 
     private static List<ApplicationArchive> indexPaths(Set<Path> dependenciesToIndex, ClassLoader classLoader,
-            IndexCache indexCache)
+            IndexCache indexCache, BuildCacheBuildItem buildCache)
             throws IOException {
-        List<ApplicationArchive> ret = new ArrayList<>();
-
-        for (final Path dep : dependenciesToIndex) {
-            LOGGER.debugf("Indexing dependency: %s", dep);
-            if (Files.isDirectory(dep)) {
-                IndexView indexView = handleFilePath(dep);
-                ret.add(new ApplicationArchiveImpl(indexView, dep, null, false, dep));
-            } else {
-                IndexView index = handleJarPath(dep, indexCache);
-                FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
-                ret.add(new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs, true, dep));
+        List<ApplicationArchive> ret = new ArrayList<>(dependenciesToIndex.size());
+        if (dependenciesToIndex.size() <= 1) {
+            for (final Path dep : dependenciesToIndex) {
+                ret.add(indexPath(dep, classLoader, indexCache, buildCache));
             }
+            return ret;
         }
 
+        // The dependencies are independent of each other so we index them in parallel
+        long start = System.nanoTime();
+        final ExecutorService executorPool = Executors.newFixedThreadPool(
+                Math.min(dependenciesToIndex.size(), Runtime.getRuntime().availableProcessors()));
+        final List<Future<ApplicationArchive>> archives = new ArrayList<>(dependenciesToIndex.size());
+        // the archives opened so far, closed if indexing fails
+        final Queue<ApplicationArchive> opened = new ConcurrentLinkedQueue<>();
+        try {
+            for (final Path dep : dependenciesToIndex) {
+                archives.add(executorPool.submit(new Callable<ApplicationArchive>() {
+                    @Override
+                    public ApplicationArchive call() throws Exception {
+                        ApplicationArchive archive = indexPath(dep, classLoader, indexCache, buildCache);
+                        opened.add(archive);
+                        return archive;
+                    }
+                }));
+            }
+            for (Future<ApplicationArchive> archive : archives) {
+                ret.add(getArchive(archive));
+            }
+        } catch (IOException | RuntimeException | Error e) {
+            for (Future<ApplicationArchive> archive : archives) {
+                archive.cancel(true);
+            }
+            executorPool.shutdown();
+            try {
+                // wait for the running tasks so that no archive is opened after the cleanup
+                executorPool.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            for (ApplicationArchive archive : opened) {
+                try {
+                    archive.close();
+                } catch (IOException ce) {
+                    e.addSuppressed(ce);
+                }
+            }
+            throw e;
+        } finally {
+            executorPool.shutdown();
+        }
+        LOGGER.debugf("Indexed %s dependencies in %s ms", ret.size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         return ret;
     }
 
+    private static ApplicationArchive getArchive(Future<ApplicationArchive> archive) throws IOException {
+        try {
+            return archive.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while indexing application archives", e);
+        } catch (ExecutionException e) {
+            try {
+                throw e.getCause();
+            } catch (IOException | RuntimeException | Error cause) {
+                throw cause;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+
+    private static ApplicationArchive indexPath(Path dep, ClassLoader classLoader, IndexCache indexCache,
+            BuildCacheBuildItem buildCache) throws IOException {
+        LOGGER.debugf("Indexing dependency: %s", dep);
+        if (Files.isDirectory(dep)) {
+            IndexView indexView = handleFilePath(dep);
+            return new ApplicationArchiveImpl(indexView, dep, null, false, dep);
+        } else {
+            IndexView index = handleJarPath(dep, indexCache, buildCache);
+            FileSystem fs = FileSystems.newFileSystem(dep, classLoader);
+            return new ApplicationArchiveImpl(index, fs.getRootDirectories().iterator().next(), fs, true, dep);
+        }
+    }
+
     private static Collection<? extends Path> getMarkerFilePaths(ClassLoader classLoader, Set<String> applicationArchiveFiles,
             ArchiveRootBuildItem root)
             throws IOException {
@@ -245,31 +325,51 @@ public class ApplicationArchiveBuildStep {
         return indexer.complete();
     }
 
-    private static Index handleJarPath(Path path, IndexCache indexCache) throws IOException {
-        return indexCache.cache.computeIfAbsent(path, new Function<Path, Index>() {
-            @Override
-            public Index apply(Path path) {
-                try (JarFile file = new JarFile(path.toFile())) {
-                    ZipEntry existing = file.getEntry(JANDEX_INDEX);
-                    if (existing != null) {
-                        try (InputStream in = file.getInputStream(existing)) {
-                            IndexReader reader = new IndexReader(in);
-                            if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                                LOGGER.warnf(
-                                        "Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
-                                        path);
-                                return indexJar(file);
-                            } else {
-                                return reader.read();
-                            }
-                        }
+    private static Index handleJarPath(Path path, IndexCache indexCache, BuildCacheBuildItem buildCache)
+            throws IOException {
+        Index index = indexCache.cache.get(path);
+        if (index != null) {
+            return index;
+        }
+        // Do not hold a lock of the map while indexing; in the worst case the same jar is indexed twice
+        try (JarFile file = new JarFile(path.toFile())) {
+            ZipEntry existing = file.getEntry(JANDEX_INDEX);
+            if (existing != null) {
+                try (InputStream in = file.getInputStream(existing)) {
+                    IndexReader reader = new IndexReader(in);
+                    if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
+                        LOGGER.warnf("Re-indexing %s - at least Jandex 2.1 must be used to index an application dependency",
+                                path);
+                        index = indexJar(path, file, buildCache);
+                    } else {
+                        index = reader.read();
                     }
-                    return indexJar(file);
-                } catch (IOException e) {
-                    throw new RuntimeException("Failed to process " + path, e);
                 }
+            } else {
+                index = indexJar(path, file, buildCache);
             }
-        });
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to process " + path, e);
+        }
+        Index previous = indexCache.cache.putIfAbsent(path, index);
+        return previous != null ? previous : index;
+    }
+
+    private static Index indexJar(Path path, JarFile file, BuildCacheBuildItem buildCache) throws IOException {
+        String key = null;
+        if (buildCache.isEnabled()) {
+            // The jar is not expected to change unless its size or last modified time changes
+            key = BuildCacheBuildItem.key(path);
+            Index cached = buildCache.get(CACHE_NAMESPACE, key, in -> new IndexReader(in).read());
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Index index = indexJar(file);
+        if (key != null) {
+            buildCache.put(CACHE_NAMESPACE, key, index, (value, out) -> new IndexWriter(out).write(value));
+        }
+        return index;
     }
 
     private static Index indexJar(JarFile file) throws IOException {
@@ -292,7 +392,7 @@ public class ApplicationArchiveBuildStep {
      */
     private static final class IndexCache {
 
-        final Map<Path, Index> cache = new HashMap<>();
+        final Map<Path, Index> cache = new ConcurrentHashMap<>();
 
     }
 }
@@ -10,12 +10,18 @@ import io.quarkus.runtime.annotations.ConfigRoot;
 public class PackageConfig {
 
     public static final String JAR = "jar";
+    public static final String FAST_JAR = "fast-jar";
     public static final String NATIVE = "native";
 
     /**
      * The requested output type.
      * 
-     * The default built in types are jar and native
+     * The default built in types are jar, fast-jar and native.
+     *
+     * A fast-jar is written to the {@code quarkus-app} directory: the application jar is in {@code app}, the dependencies
+     * in {@code lib} and the {@code quarkus-run.jar} launcher contains an index of the jars, so that a class is only looked
+     * up in the jars that contain its package. The unchanged dependencies are not copied again when the application is
+     * rebuilt.
      */
     @ConfigItem(defaultValue = JAR)
     public String type;
@@ -26,6 +32,17 @@ public class PackageConfig {
     @ConfigItem(defaultValue = "false")
     public boolean uberJar;
 
+    /**
+     * If an AppCDS archive should be created for the runner jar. The application is started once with the JVM used by the
+     * build, the classes loaded during startup are recorded and dumped into a class data sharing archive next to the
+     * runner jar. The archive reduces the startup time if the application is launched from the output directory with
+     * the same JVM: {@code java -XX:SharedArchiveFile=app-cds.jsa -jar <runner jar>}.
+     *
+     * Requires Java 11 or later and is ignored for native builds and for the {@code fast-jar} package type.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean createAppcds;
+
     /**
      * Manifest configuration of the runner jar.
      */
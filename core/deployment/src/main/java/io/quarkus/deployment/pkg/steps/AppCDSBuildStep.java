@@ -0,0 +1,126 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
+import io.quarkus.deployment.pkg.builditem.JarBuildItem;
+import io.quarkus.runtime.Application;
+
+/**
+ * Creates an AppCDS archive for the runner jar.
+ *
+ * The runner jar is started once with {@code -XX:DumpLoadedClassList} and stopped as soon as the application is started.
+ * The recorded classes are then dumped into the archive with {@code -Xshare:dump}. Both processes use the JVM that runs the
+ * build and the output directory as the working directory, so that the class path recorded in the archive matches
+ * {@code java -XX:SharedArchiveFile=app-cds.jsa -jar <runner jar>} launched from the output directory.
+ */
+public class AppCDSBuildStep {
+
+    private static final Logger log = Logger.getLogger(AppCDSBuildStep.class);
+
+    public static final String ARCHIVE_FILE_NAME = "app-cds.jsa";
+    private static final String CLASSES_LIST_FILE_NAME = "app-cds-classes.lst";
+    private static final String LOG_FILE_NAME = "app-cds.log";
+    private static final long TIMEOUT_MINUTES = 5;
+
+    @BuildStep(onlyIf = { JarResultBuildStep.JarRequired.class, AppCDSRequired.class })
+    public AppCDSResultBuildItem build(JarBuildItem jarBuildItem, PackageConfig packageConfig) throws Exception {
+        if (packageConfig.type.equalsIgnoreCase(PackageConfig.FAST_JAR) && !jarBuildItem.isUberJar()) {
+            // The application classes are loaded by the FastJarClassLoader and the JVM only archives the classes
+            // loaded by the built-in class loaders
+            log.warnf("Unable to create an AppCDS archive - the classes loaded by the %s package type cannot be archived",
+                    PackageConfig.FAST_JAR);
+            return null;
+        }
+        String javaVersion = System.getProperty("java.specification.version");
+        if (javaVersion.startsWith("1.")) {
+            log.warnf("Unable to create an AppCDS archive - at least Java 11 is required but the build uses Java %s",
+                    javaVersion);
+            return null;
+        }
+        Path outputDir = jarBuildItem.getPath().getParent();
+        String runnerJar = jarBuildItem.getPath().getFileName().toString();
+        Path classesList = outputDir.resolve(CLASSES_LIST_FILE_NAME);
+        Path archive = outputDir.resolve(ARCHIVE_FILE_NAME);
+        Files.deleteIfExists(classesList);
+        Files.deleteIfExists(archive);
+
+        log.info("Launching the application to record the classes loaded during startup");
+        if (!run(outputDir, true, javaBinary(), "-XX:DumpLoadedClassList=" + CLASSES_LIST_FILE_NAME, "-jar", runnerJar)
+                || !Files.exists(classesList)) {
+            return null;
+        }
+
+        log.info("Creating the AppCDS archive: " + archive);
+        try {
+            if (!run(outputDir, false, javaBinary(), "-Xshare:dump", "-XX:SharedClassListFile=" + CLASSES_LIST_FILE_NAME,
+                    "-XX:SharedArchiveFile=" + ARCHIVE_FILE_NAME, "-cp", runnerJar) || !Files.exists(archive)) {
+                return null;
+            }
+        } finally {
+            Files.deleteIfExists(classesList);
+        }
+        log.infof("To use the AppCDS archive, launch the application from %s with: java -XX:SharedArchiveFile=%s -jar %s",
+                outputDir, ARCHIVE_FILE_NAME, runnerJar);
+        return new AppCDSResultBuildItem(archive);
+    }
+
+    private boolean run(Path workingDir, boolean exitAfterStart, String... command)
+            throws IOException, InterruptedException {
+        Path logFile = workingDir.resolve(LOG_FILE_NAME);
+        ProcessBuilder processBuilder = new ProcessBuilder(Arrays.asList(command))
+                .directory(workingDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile());
+        if (exitAfterStart) {
+            processBuilder.environment().put(Application.EXIT_AFTER_START, "true");
+        }
+        log.debugf("Executing %s", String.join(" ", command));
+        Process process = processBuilder.start();
+        if (!process.waitFor(TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            log.warnf("Unable to create an AppCDS archive - %s did not finish in %s minutes, see %s", command[0],
+                    TIMEOUT_MINUTES, logFile);
+            return false;
+        }
+        if (process.exitValue() != 0) {
+            log.warnf("Unable to create an AppCDS archive - the process exited with %s, see %s", process.exitValue(), logFile);
+            return false;
+        }
+        Files.deleteIfExists(logFile);
+        return true;
+    }
+
+    private static String javaBinary() {
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        if (File.separatorChar == '\\') {
+            java = java.resolveSibling("java.exe");
+        }
+        return java.toString();
+    }
+
+    static class AppCDSRequired implements BooleanSupplier {
+
+        private final PackageConfig packageConfig;
+
+        AppCDSRequired(PackageConfig packageConfig) {
+            this.packageConfig = packageConfig;
+        }
+
+        @Override
+        public boolean getAsBoolean() {
+            return packageConfig.createAppcds;
+        }
+    }
+}
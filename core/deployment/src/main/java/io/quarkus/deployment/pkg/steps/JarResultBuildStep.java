@@ -13,23 +13,20 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.FileSystem;
-import java.nio.file.FileVisitOption;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.OpenOption;
 import java.nio.file.Path;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.EnumSet;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiPredicate;
 import java.util.function.BooleanSupplier;
@@ -60,6 +57,7 @@ import io.quarkus.deployment.builditem.GeneratedNativeImageClassBuildItem;
 import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
 import io.quarkus.deployment.builditem.TransformedClassesBuildItem;
 import io.quarkus.deployment.pkg.PackageConfig;
+import io.quarkus.deployment.pkg.builditem.AppCDSResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.ArtifactResultBuildItem;
 import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
@@ -67,6 +65,10 @@ import io.quarkus.deployment.pkg.builditem.JarBuildItem;
 import io.quarkus.deployment.pkg.builditem.NativeImageSourceJarBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
 import io.quarkus.deployment.pkg.builditem.UberJarRequiredBuildItem;
+import io.quarkus.deployment.util.IoUtil;
+import io.quarkus.runtime.fastjar.FastJarClassLoader;
+import io.quarkus.runtime.fastjar.FastJarIndex;
+import io.quarkus.runtime.fastjar.FastJarMain;
 
 /**
  * This build step builds both the thin jars and uber jars.
@@ -116,6 +118,10 @@ public class JarResultBuildStep {
     // makes a subsequent uberJar creation fail in java 8 (but works fine in Java 11)
     private static final OpenOption[] DEFAULT_OPEN_OPTIONS = { TRUNCATE_EXISTING, WRITE, CREATE };
 
+    private static final String FAST_JAR_DIR = "quarkus-app";
+    private static final String FAST_JAR_RUNNER = "quarkus-run.jar";
+    private static final String MULTI_RELEASE_PREFIX = "META-INF/versions/";
+
     @BuildStep
     OutputTargetBuildItem outputTarget(BuildSystemTargetBuildItem bst, PackageConfig packageConfig) {
         String name = packageConfig.outputName.isPresent() ? packageConfig.outputName.get() : bst.getBaseName();
@@ -126,13 +132,16 @@ public class JarResultBuildStep {
     }
 
     @BuildStep(onlyIf = JarRequired.class)
-    ArtifactResultBuildItem jarOutput(JarBuildItem jarBuildItem) {
+    ArtifactResultBuildItem jarOutput(JarBuildItem jarBuildItem, Optional<AppCDSResultBuildItem> appCDS,
+            PackageConfig packageConfig) {
+        Map<String, Path> additionalPaths = new HashMap<>();
         if (jarBuildItem.getLibraryDir() != null) {
-            return new ArtifactResultBuildItem(jarBuildItem.getPath(), PackageConfig.JAR,
-                    Collections.singletonMap("library-dir", jarBuildItem.getLibraryDir()));
-        } else {
-            return new ArtifactResultBuildItem(jarBuildItem.getPath(), PackageConfig.JAR, Collections.emptyMap());
+            additionalPaths.put("library-dir", jarBuildItem.getLibraryDir());
+        }
+        if (appCDS.isPresent()) {
+            additionalPaths.put("appcds", appCDS.get().getAppCDS());
         }
+        return new ArtifactResultBuildItem(jarBuildItem.getPath(), packageConfig.type.toLowerCase(), additionalPaths);
     }
 
     @BuildStep
@@ -149,6 +158,9 @@ public class JarResultBuildStep {
         if (!uberJarRequired.isEmpty() || packageConfig.uberJar) {
             return buildUberJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
                     packageConfig, applicationInfo, generatedClasses, generatedResources, generatedFileSystemResources);
+        } else if (packageConfig.type.equalsIgnoreCase(PackageConfig.FAST_JAR)) {
+            return buildFastJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
+                    packageConfig, applicationInfo, generatedClasses, generatedResources, generatedFileSystemResources);
         } else {
             return buildThinJar(curateOutcomeBuildItem, outputTargetBuildItem, transformedClasses, applicationArchivesBuildItem,
                     packageConfig, applicationInfo, generatedClasses, generatedResources, generatedFileSystemResources);
@@ -180,107 +192,103 @@ public class JarResultBuildStep {
                 .resolve(outputTargetBuildItem.getBaseName() + packageConfig.runnerSuffix + ".jar");
         Files.deleteIfExists(runnerJar);
 
-        try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
+        log.info("Building fat jar: " + runnerJar);
 
-            log.info("Building fat jar: " + runnerJar);
+        // the entries of the dependencies are copied raw and the entries are sorted so that the jar is reproducible
+        final UberJarWriter runnerJarWriter = new UberJarWriter();
+        final AppModelResolver depResolver = curateOutcomeBuildItem.getResolver();
+        final Map<String, String> seen = new HashMap<>();
+        final Map<String, Set<AppDependency>> duplicateCatcher = new HashMap<>();
+        final Map<String, List<byte[]>> services = new HashMap<>();
+        Set<String> finalIgnoredEntries = new HashSet<>(IGNORED_ENTRIES);
+        packageConfig.userConfiguredIgnoredEntries.ifPresent(finalIgnoredEntries::addAll);
 
-            final AppModelResolver depResolver = curateOutcomeBuildItem.getResolver();
-            final Map<String, String> seen = new HashMap<>();
-            final Map<String, Set<AppDependency>> duplicateCatcher = new HashMap<>();
-            final StringBuilder classPath = new StringBuilder();
-            final Map<String, List<byte[]>> services = new HashMap<>();
-            Set<String> finalIgnoredEntries = new HashSet<>(IGNORED_ENTRIES);
-            packageConfig.userConfiguredIgnoredEntries.ifPresent(finalIgnoredEntries::addAll);
-
-            final List<AppDependency> appDeps = curateOutcomeBuildItem.getEffectiveModel().getUserDependencies();
-
-            AppArtifact appArtifact = curateOutcomeBuildItem.getEffectiveModel().getAppArtifact();
-            // the manifest needs to be the first entry in the jar, otherwise JarInputStream does not work properly
-            // see https://bugs.openjdk.java.net/browse/JDK-8031748
-            generateManifest(runnerZipFs, classPath.toString(), packageConfig, appArtifact, applicationInfo);
-
-            for (AppDependency appDep : appDeps) {
-                final AppArtifact depArtifact = appDep.getArtifact();
-                final Path resolvedDep = depResolver.resolve(depArtifact);
-
-                // Exclude files that are not jars (typically, we can have XML files here, see https://github.com/quarkusio/quarkus/issues/2852)
-                if (!resolvedDep.getFileName().toString().endsWith(".jar")) {
-                    continue;
-                }
+        final List<AppDependency> appDeps = curateOutcomeBuildItem.getEffectiveModel().getUserDependencies();
 
-                Set<String> transformedFromThisArchive = transformedClasses.getTransformedFilesByJar().get(resolvedDep);
-
-                try (FileSystem artifactFs = ZipUtils.newFileSystem(resolvedDep)) {
-                    for (final Path root : artifactFs.getRootDirectories()) {
-                        final Path metaInfDir = root.resolve("META-INF");
-                        Files.walkFileTree(root, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
-                                new SimpleFileVisitor<Path>() {
-                                    @Override
-                                    public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs)
-                                            throws IOException {
-                                        final String relativePath = toUri(root.relativize(dir));
-                                        if (!relativePath.isEmpty()) {
-                                            addDir(runnerZipFs, relativePath);
-                                        }
-                                        return FileVisitResult.CONTINUE;
-                                    }
-
-                                    @Override
-                                    public FileVisitResult visitFile(Path file, BasicFileAttributes attrs)
-                                            throws IOException {
-                                        final String relativePath = toUri(root.relativize(file));
-                                        //if this has been transfomed we do not copy it
-                                        // if it's a signature file (under the <jar>/META-INF directory),
-                                        // then we don't add it to the uber jar
-                                        if (isBlockOrSF(relativePath) &&
-                                                file.relativize(metaInfDir).getNameCount() == 1) {
-                                            if (log.isDebugEnabled()) {
-                                                log.debug("Signature file " + file.toAbsolutePath() + " from app " +
-                                                        "dependency " + appDep + " will not be included in uberjar");
-                                            }
-                                            return FileVisitResult.CONTINUE;
-                                        }
-                                        boolean transformed = transformedFromThisArchive != null
-                                                && transformedFromThisArchive.contains(relativePath);
-                                        if (!transformed) {
-                                            if (relativePath.startsWith("META-INF/services/") && relativePath.length() > 18) {
-                                                services.computeIfAbsent(relativePath, (u) -> new ArrayList<>())
-                                                        .add(read(file));
-                                                return FileVisitResult.CONTINUE;
-                                            } else if (!finalIgnoredEntries.contains(relativePath)) {
-                                                duplicateCatcher.computeIfAbsent(relativePath, (a) -> new HashSet<>())
-                                                        .add(appDep);
-                                                if (!seen.containsKey(relativePath)) {
-                                                    seen.put(relativePath, appDep.toString());
-                                                    Files.copy(file, runnerZipFs.getPath(relativePath),
-                                                            StandardCopyOption.REPLACE_EXISTING);
-                                                } else if (!relativePath.endsWith(".class")) {
-                                                    //for .class entries we warn as a group
-                                                    log.warn("Duplicate entry " + relativePath + " entry from " + appDep
-                                                            + " will be ignored. Existing file was provided by "
-                                                            + seen.get(relativePath));
-                                                }
-                                            }
-                                        }
-                                        return FileVisitResult.CONTINUE;
-                                    }
-                                });
-                    }
+        AppArtifact appArtifact = curateOutcomeBuildItem.getEffectiveModel().getAppArtifact();
+        // the manifest needs to be the first entry in the jar, otherwise JarInputStream does not work properly
+        // see https://bugs.openjdk.java.net/browse/JDK-8031748
+        // the writer always writes the manifest first
+        final Manifest manifest = new Manifest();
+        populateManifest(manifest, "", packageConfig, packageConfig.mainClass, appArtifact, applicationInfo);
+        final ByteArrayOutputStream manifestBytes = new ByteArrayOutputStream();
+        manifest.write(manifestBytes);
+        runnerJarWriter.add("META-INF/MANIFEST.MF", manifestBytes.toByteArray());
 
-                }
+        for (AppDependency appDep : appDeps) {
+            final AppArtifact depArtifact = appDep.getArtifact();
+            final Path resolvedDep = depResolver.resolve(depArtifact);
+
+            // Exclude files that are not jars (typically, we can have XML files here, see https://github.com/quarkusio/quarkus/issues/2852)
+            if (!resolvedDep.getFileName().toString().endsWith(".jar")) {
+                continue;
             }
-            Set<Set<AppDependency>> explained = new HashSet<>();
-            for (Map.Entry<String, Set<AppDependency>> entry : duplicateCatcher.entrySet()) {
-                if (entry.getValue().size() > 1) {
-                    if (explained.add(entry.getValue())) {
-                        log.warn("Dependencies with duplicate files detected. The dependencies " + entry.getValue()
-                                + " contain duplicate files, e.g. " + entry.getKey());
+
+            Set<String> transformedFromThisArchive = transformedClasses.getTransformedFilesByJar().get(resolvedDep);
+
+            // null if the entries cannot be copied raw, they are inflated and compressed again in that case
+            final Map<String, UberJarWriter.RawEntry> rawEntries = UberJarWriter.readEntries(resolvedDep);
+            try (ZipFile zipFile = new ZipFile(resolvedDep.toFile())) {
+                final Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    final ZipEntry entry = entries.nextElement();
+                    final String relativePath = entry.getName();
+                    if (entry.isDirectory()) {
+                        runnerJarWriter.addDirectory(relativePath);
+                        continue;
                     }
+                    //if this has been transfomed we do not copy it
+                    // if it's a signature file (under the <jar>/META-INF directory),
+                    // then we don't add it to the uber jar
+                    if (isBlockOrSF(relativePath) && relativePath.startsWith("META-INF/")
+                            && relativePath.indexOf('/', 9) == -1) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Signature file " + relativePath + " from app " +
+                                    "dependency " + appDep + " will not be included in uberjar");
+                        }
+                        continue;
+                    }
+                    boolean transformed = transformedFromThisArchive != null
+                            && transformedFromThisArchive.contains(relativePath);
+                    if (!transformed) {
+                        if (relativePath.startsWith("META-INF/services/") && relativePath.length() > 18) {
+                            services.computeIfAbsent(relativePath, (u) -> new ArrayList<>())
+                                    .add(read(zipFile, entry));
+                        } else if (!finalIgnoredEntries.contains(relativePath)) {
+                            duplicateCatcher.computeIfAbsent(relativePath, (a) -> new HashSet<>())
+                                    .add(appDep);
+                            if (!seen.containsKey(relativePath)) {
+                                seen.put(relativePath, appDep.toString());
+                                final UberJarWriter.RawEntry rawEntry = rawEntries != null ? rawEntries.get(relativePath)
+                                        : null;
+                                if (rawEntry != null) {
+                                    runnerJarWriter.addRaw(relativePath, resolvedDep, rawEntry);
+                                } else {
+                                    runnerJarWriter.add(relativePath, read(zipFile, entry));
+                                }
+                            } else if (!relativePath.endsWith(".class")) {
+                                //for .class entries we warn as a group
+                                log.warn("Duplicate entry " + relativePath + " entry from " + appDep
+                                        + " will be ignored. Existing file was provided by "
+                                        + seen.get(relativePath));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        Set<Set<AppDependency>> explained = new HashSet<>();
+        for (Map.Entry<String, Set<AppDependency>> entry : duplicateCatcher.entrySet()) {
+            if (entry.getValue().size() > 1) {
+                if (explained.add(entry.getValue())) {
+                    log.warn("Dependencies with duplicate files detected. The dependencies " + entry.getValue()
+                            + " contain duplicate files, e.g. " + entry.getKey());
                 }
             }
-            copyCommonContent(runnerZipFs, services, applicationArchivesBuildItem, transformedClasses, generatedClasses,
-                    generatedResources, seen);
         }
+        copyCommonContent(runnerJarWriter, services, applicationArchivesBuildItem, transformedClasses, generatedClasses,
+                generatedResources);
+        runnerJarWriter.write(runnerJar);
 
         runnerJar.toFile().setReadable(true, false);
 
@@ -320,6 +328,140 @@ public class JarResultBuildStep {
         return new JarBuildItem(runnerJar, null, libDir);
     }
 
+    private JarBuildItem buildFastJar(CurateOutcomeBuildItem curateOutcomeBuildItem,
+            OutputTargetBuildItem outputTargetBuildItem,
+            TransformedClassesBuildItem transformedClasses,
+            ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            PackageConfig packageConfig,
+            ApplicationInfoBuildItem applicationInfo,
+            List<GeneratedClassBuildItem> generatedClasses,
+            List<GeneratedResourceBuildItem> generatedResources,
+            List<GeneratedFileSystemResourceBuildItem> generatedFileSystemResources) throws Exception {
+
+        Path buildDir = outputTargetBuildItem.getOutputDirectory().resolve(FAST_JAR_DIR);
+        Path runnerJar = buildDir.resolve(FAST_JAR_RUNNER);
+        Path appDir = buildDir.resolve("app");
+        Path libDir = buildDir.resolve("lib");
+        Files.createDirectories(appDir);
+        Files.createDirectories(libDir);
+        Files.deleteIfExists(runnerJar);
+
+        log.info("Building fast jar: " + runnerJar);
+
+        final List<String> jars = new ArrayList<>();
+        Path appJar = appDir.resolve(outputTargetBuildItem.getBaseName() + ".jar");
+        Files.deleteIfExists(appJar);
+        try (FileSystem appZipFs = ZipUtils.newZip(appJar)) {
+            copyCommonContent(appZipFs, new HashMap<>(), applicationArchivesBuildItem, transformedClasses, generatedClasses,
+                    generatedResources, new HashMap<>());
+        }
+        jars.add("app/" + appJar.getFileName());
+        copyFastJarLibraries(transformedClasses, libDir, curateOutcomeBuildItem.getResolver(),
+                curateOutcomeBuildItem.getEffectiveModel().getUserDependencies(), jars);
+
+        final FastJarIndex index = createFastJarIndex(buildDir, jars, packageConfig.mainClass);
+        try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
+            final Map<String, String> seen = new HashMap<>();
+            generateManifest(runnerZipFs, "", packageConfig, FastJarMain.class.getName(),
+                    curateOutcomeBuildItem.getEffectiveModel().getAppArtifact(), applicationInfo);
+            // the launcher classes only depend on the JDK
+            for (Class<?> launcherClass : Arrays.asList(FastJarMain.class, FastJarClassLoader.class, FastJarIndex.class)) {
+                String fileName = launcherClass.getName().replace('.', '/') + ".class";
+                handleParent(runnerZipFs, fileName, seen);
+                try (final OutputStream os = wrapForJDK8232879(
+                        Files.newOutputStream(runnerZipFs.getPath(fileName), DEFAULT_OPEN_OPTIONS))) {
+                    os.write(IoUtil.readClassAsBytes(launcherClass.getClassLoader(), launcherClass.getName()));
+                }
+            }
+            try (final OutputStream os = wrapForJDK8232879(
+                    Files.newOutputStream(runnerZipFs.getPath(FastJarIndex.INDEX_FILE), DEFAULT_OPEN_OPTIONS))) {
+                index.write(os);
+            }
+        }
+        runnerJar.toFile().setReadable(true, false);
+
+        generateFileSystemResources(outputTargetBuildItem, generatedFileSystemResources);
+
+        return new JarBuildItem(runnerJar, null, libDir);
+    }
+
+    /**
+     * Unlike the thin jar, the library directory is not recreated: a dependency is only copied if it was changed, and the
+     * dependencies that are not used anymore are deleted. This keeps the library directory, e.g. a container image layer,
+     * unchanged if only the application is rebuilt.
+     */
+    private void copyFastJarLibraries(TransformedClassesBuildItem transformedClasses, Path libDir,
+            AppModelResolver depResolver, List<AppDependency> appDeps, List<String> jars)
+            throws AppModelResolverException, IOException {
+        final Set<Path> obsolete;
+        try (Stream<Path> existing = Files.list(libDir)) {
+            obsolete = existing.collect(Collectors.toSet());
+        }
+        for (AppDependency appDep : appDeps) {
+            final AppArtifact depArtifact = appDep.getArtifact();
+            final Path resolvedDep = depResolver.resolve(depArtifact);
+
+            if (!resolvedDep.getFileName().toString().endsWith(".jar")) {
+                continue;
+            }
+
+            Set<String> transformedFromThisArchive = transformedClasses.getTransformedFilesByJar().get(resolvedDep);
+            final String fileName;
+            if (transformedFromThisArchive == null || transformedFromThisArchive.isEmpty()) {
+                fileName = depArtifact.getGroupId() + "." + resolvedDep.getFileName();
+                final Path targetPath = libDir.resolve(fileName);
+                if (!Files.exists(targetPath) || Files.size(targetPath) != Files.size(resolvedDep)
+                        || !Files.getLastModifiedTime(targetPath).equals(Files.getLastModifiedTime(resolvedDep))) {
+                    Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.COPY_ATTRIBUTES);
+                }
+            } else {
+                //the transformations may have changed so the filtered jar is always recreated
+                fileName = "modified-" + depArtifact.getGroupId() + "." + resolvedDep.getFileName();
+                filterZipFile(resolvedDep, libDir.resolve(fileName), transformedFromThisArchive);
+            }
+            obsolete.remove(libDir.resolve(fileName));
+            jars.add("lib/" + fileName);
+        }
+        for (Path path : obsolete) {
+            IoUtils.recursiveDelete(path);
+        }
+    }
+
+    private static FastJarIndex createFastJarIndex(Path buildDir, List<String> jars, String mainClass) throws IOException {
+        final Map<String, List<Integer>> directories = new HashMap<>();
+        for (int i = 0; i < jars.size(); i++) {
+            try (ZipFile zipFile = new ZipFile(buildDir.resolve(jars.get(i)).toFile())) {
+                Enumeration<? extends ZipEntry> entries = zipFile.entries();
+                while (entries.hasMoreElements()) {
+                    String name = entries.nextElement().getName();
+                    addFastJarIndexEntry(directories, name, i);
+                    if (name.startsWith(MULTI_RELEASE_PREFIX)) {
+                        // the runtime looks up the versioned entries of a multi-release jar by the base name
+                        int idx = name.indexOf('/', MULTI_RELEASE_PREFIX.length());
+                        if (idx != -1 && idx + 1 < name.length()) {
+                            addFastJarIndexEntry(directories, name.substring(idx + 1), i);
+                        }
+                    }
+                }
+            }
+        }
+        final Map<String, int[]> index = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : directories.entrySet()) {
+            index.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+        return new FastJarIndex(mainClass, jars, index);
+    }
+
+    private static void addFastJarIndexEntry(Map<String, List<Integer>> directories, String name, int jar) {
+        int idx = name.lastIndexOf('/');
+        List<Integer> directoryJars = directories.computeIfAbsent(idx == -1 ? "" : name.substring(0, idx),
+                d -> new ArrayList<>());
+        if (directoryJars.isEmpty() || directoryJars.get(directoryJars.size() - 1) != jar) {
+            directoryJars.add(jar);
+        }
+    }
+
     private void generateFileSystemResources(OutputTargetBuildItem outputTargetBuildItem,
             List<GeneratedFileSystemResourceBuildItem> generatedFileSystemResources) throws IOException {
         for (GeneratedFileSystemResourceBuildItem generatedFileSystemResource : generatedFileSystemResources) {
@@ -422,7 +564,8 @@ public class JarResultBuildStep {
         AppArtifact appArtifact = curateOutcomeBuildItem.getEffectiveModel().getAppArtifact();
         // the manifest needs to be the first entry in the jar, otherwise JarInputStream does not work properly
         // see https://bugs.openjdk.java.net/browse/JDK-8031748
-        generateManifest(runnerZipFs, classPath.toString(), packageConfig, appArtifact, applicationInfo);
+        generateManifest(runnerZipFs, classPath.toString(), packageConfig, packageConfig.mainClass, appArtifact,
+                    applicationInfo);
         copyCommonContent(runnerZipFs, services, applicationArchivesBuildItem, transformedClasses, allClasses,
                 generatedResources, seen);
     }
@@ -518,6 +661,67 @@ public class JarResultBuildStep {
         }
     }
 
+    private void copyCommonContent(UberJarWriter runnerJarWriter, Map<String, List<byte[]>> services,
+            ApplicationArchivesBuildItem appArchives, TransformedClassesBuildItem transformedClassesBuildItem,
+            List<GeneratedClassBuildItem> generatedClasses,
+            List<GeneratedResourceBuildItem> generatedResources)
+            throws IOException {
+
+        // same rules as copyCommonContent(FileSystem, ...), the writer compresses the content in parallel
+        for (Set<TransformedClassesBuildItem.TransformedClass> transformed : transformedClassesBuildItem
+                .getTransformedClassesByJar().values()) {
+            for (TransformedClassesBuildItem.TransformedClass i : transformed) {
+                runnerJarWriter.add(i.getFileName(), i.getData());
+            }
+        }
+        for (GeneratedClassBuildItem i : generatedClasses) {
+            String fileName = i.getName().replace(".", "/") + ".class";
+            if (!runnerJarWriter.contains(fileName)) {
+                runnerJarWriter.add(fileName, i.getClassData());
+            }
+        }
+
+        for (GeneratedResourceBuildItem i : generatedResources) {
+            if (runnerJarWriter.contains(i.getName())) {
+                continue;
+            }
+            if (i.getName().startsWith("META-INF/services")) {
+                services.computeIfAbsent(i.getName(), (u) -> new ArrayList<>()).add(i.getClassData());
+            } else {
+                runnerJarWriter.add(i.getName(), i.getClassData());
+            }
+        }
+
+        final Path root = appArchives.getRootArchive().getArchiveRoot();
+        // sorted so that the services merged from the application files are in a stable order
+        final List<Path> files;
+        try (Stream<Path> fileTreeElements = Files.walk(root)) {
+            files = fileTreeElements.sorted().collect(Collectors.toList());
+        }
+        for (Path path : files) {
+            final String relativePath = toUri(root.relativize(path));
+            if (relativePath.isEmpty()) {
+                continue;
+            }
+            if (Files.isDirectory(path)) {
+                runnerJarWriter.addDirectory(relativePath);
+            } else if (relativePath.startsWith("META-INF/services/") && relativePath.length() > 18) {
+                services.computeIfAbsent(relativePath, (u) -> new ArrayList<>()).add(Files.readAllBytes(path));
+            } else if (!runnerJarWriter.contains(relativePath)) {
+                runnerJarWriter.add(relativePath, Files.readAllBytes(path));
+            }
+        }
+
+        for (Map.Entry<String, List<byte[]>> entry : services.entrySet()) {
+            final ByteArrayOutputStream os = new ByteArrayOutputStream();
+            for (byte[] i : entry.getValue()) {
+                os.write(i);
+                os.write('\n');
+            }
+            runnerJarWriter.add(entry.getKey(), os.toByteArray());
+        }
+    }
+
     private void handleParent(FileSystem runnerZipFs, String fileName, Map<String, String> seen) throws IOException {
         for (int i = 0; i < fileName.length(); ++i) {
             if (fileName.charAt(i) == '/') {
@@ -564,8 +768,8 @@ public class JarResultBuildStep {
      * <b>BEWARE</b> this method should be invoked after file copy from target/classes and so on.
      * Otherwise this manifest manipulation will be useless.
      */
-    private void generateManifest(FileSystem runnerZipFs, final String classPath, PackageConfig config, AppArtifact appArtifact,
-            ApplicationInfoBuildItem applicationInfo)
+    private void generateManifest(FileSystem runnerZipFs, final String classPath, PackageConfig config, String mainClass,
+            AppArtifact appArtifact, ApplicationInfoBuildItem applicationInfo)
             throws IOException {
         final Path manifestPath = runnerZipFs.getPath("META-INF", "MANIFEST.MF");
         final Manifest manifest = new Manifest();
@@ -578,6 +782,14 @@ public class JarResultBuildStep {
             Files.createDirectories(runnerZipFs.getPath("META-INF"));
         }
         Files.createDirectories(manifestPath.getParent());
+        populateManifest(manifest, classPath, config, mainClass, appArtifact, applicationInfo);
+        try (final OutputStream os = wrapForJDK8232879(Files.newOutputStream(manifestPath, DEFAULT_OPEN_OPTIONS))) {
+            manifest.write(os);
+        }
+    }
+
+    private void populateManifest(Manifest manifest, final String classPath, PackageConfig config, String mainClass,
+            AppArtifact appArtifact, ApplicationInfoBuildItem applicationInfo) {
         Attributes attributes = manifest.getMainAttributes();
         attributes.put(Attributes.Name.MANIFEST_VERSION, "1.0");
         if (attributes.containsKey(Attributes.Name.CLASS_PATH)) {
@@ -587,11 +799,11 @@ public class JarResultBuildStep {
         attributes.put(Attributes.Name.CLASS_PATH, classPath);
         if (attributes.containsKey(Attributes.Name.MAIN_CLASS)) {
             String existingMainClass = attributes.getValue(Attributes.Name.MAIN_CLASS);
-            if (!config.mainClass.equals(existingMainClass)) {
+            if (!mainClass.equals(existingMainClass)) {
                 log.warn("Your MANIFEST.MF already defined a MAIN_CLASS entry. Quarkus has overwritten your existing entry.");
             }
         }
-        attributes.put(Attributes.Name.MAIN_CLASS, config.mainClass);
+        attributes.put(Attributes.Name.MAIN_CLASS, mainClass);
         if (config.manifest.addImplementationEntries && !attributes.containsKey(Attributes.Name.IMPLEMENTATION_TITLE)) {
             String name = ApplicationInfoBuildItem.UNSET_VALUE.equals(applicationInfo.getName()) ? appArtifact.getArtifactId()
                     : applicationInfo.getName();
@@ -603,9 +815,6 @@ public class JarResultBuildStep {
                     : applicationInfo.getVersion();
             attributes.put(Attributes.Name.IMPLEMENTATION_VERSION, version);
         }
-        try (final OutputStream os = wrapForJDK8232879(Files.newOutputStream(manifestPath, DEFAULT_OPEN_OPTIONS))) {
-            manifest.write(os);
-        }
     }
 
     /**
@@ -671,11 +880,11 @@ public class JarResultBuildStep {
         }
     }
 
-    private static byte[] read(Path p) throws IOException {
+    private static byte[] read(ZipFile zipFile, ZipEntry entry) throws IOException {
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         byte[] buffer = new byte[1024];
         int r;
-        try (InputStream in = Files.newInputStream(p)) {
+        try (InputStream in = zipFile.getInputStream(entry)) {
             while ((r = in.read(buffer)) > 0) {
                 out.write(buffer, 0, r);
             }
@@ -712,7 +921,8 @@ public class JarResultBuildStep {
 
         @Override
         public boolean getAsBoolean() {
-            return packageConfig.type.equalsIgnoreCase(PackageConfig.JAR);
+            return packageConfig.type.equalsIgnoreCase(PackageConfig.JAR)
+                    || packageConfig.type.equalsIgnoreCase(PackageConfig.FAST_JAR);
         }
     }
 
@@ -17,7 +17,8 @@ public class PackageTypeVerificationBuildStep {
 
     @BuildStep
     List<PackageTypeBuildItem> builtins() {
-        return Arrays.asList(new PackageTypeBuildItem(PackageConfig.NATIVE), new PackageTypeBuildItem(PackageConfig.JAR));
+        return Arrays.asList(new PackageTypeBuildItem(PackageConfig.NATIVE), new PackageTypeBuildItem(PackageConfig.JAR),
+                new PackageTypeBuildItem(PackageConfig.FAST_JAR));
     }
 
     @BuildStep
@@ -0,0 +1,487 @@
+package io.quarkus.deployment.pkg.steps;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * Assembles a jar from the entries of other jars and from in-memory content.
+ * <p>
+ * The entries of the source jars are copied raw, i.e. the compressed data is not inflated and deflated again. The
+ * in-memory content is compressed in parallel. The result is reproducible: the entries are sorted by name, except for the
+ * manifest that must be the first entry, and all entries have the same timestamp.
+ */
+final class UberJarWriter {
+
+    private static final String MANIFEST_DIR = "META-INF/";
+    private static final String MANIFEST = "META-INF/MANIFEST.MF";
+
+    // 1980-02-01 00:00:00 - some zip implementations do not handle the zip epoch (1980-01-01) well
+    private static final int DOS_TIME = 0;
+    private static final int DOS_DATE = (2 << 5) | 1;
+
+    private static final int LOCAL_HEADER = 0x04034b50;
+    private static final int CENTRAL_HEADER = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY = 0x06054b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY = 0x06064b50;
+    private static final int ZIP64_LOCATOR = 0x07064b50;
+    private static final int UTF8_FLAG = 0x0800;
+    private static final long MAX_32 = 0xFFFFFFFFL;
+    private static final int MAX_16 = 0xFFFF;
+
+    private static final Comparator<String> ORDER = new Comparator<String>() {
+        @Override
+        public int compare(String name1, String name2) {
+            int rank1 = rank(name1);
+            int rank2 = rank(name2);
+            return rank1 != rank2 ? Integer.compare(rank1, rank2) : name1.compareTo(name2);
+        }
+
+        private int rank(String name) {
+            if (name.equals(MANIFEST_DIR)) {
+                return 0;
+            }
+            return name.equals(MANIFEST) ? 1 : 2;
+        }
+    };
+
+    // name (directories end with a slash) -> entry
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     *
+     * @param name the name of a file, directories end with a slash
+     * @return {@code true} if the entry was added
+     */
+    boolean contains(String name) {
+        return entries.containsKey(name);
+    }
+
+    void addDirectory(String name) {
+        if (!name.endsWith("/")) {
+            name = name + "/";
+        }
+        if (!entries.containsKey(name)) {
+            addParents(name);
+            entries.put(name, new Entry(null, null, null));
+        }
+    }
+
+    /**
+     * Add or replace the entry.
+     *
+     * @param name
+     * @param data the uncompressed content
+     */
+    void add(String name, byte[] data) {
+        addParents(name);
+        entries.put(name, new Entry(data, null, null));
+    }
+
+    /**
+     * Add or replace the entry, the compressed data are copied from the source jar.
+     *
+     * @param name
+     * @param sourceJar
+     * @param sourceEntry
+     */
+    void addRaw(String name, Path sourceJar, RawEntry sourceEntry) {
+        addParents(name);
+        entries.put(name, new Entry(null, sourceJar, sourceEntry));
+    }
+
+    private void addParents(String name) {
+        for (int i = name.indexOf('/'); i != -1 && i < name.length() - 1; i = name.indexOf('/', i + 1)) {
+            String dir = name.substring(0, i + 1);
+            if (!entries.containsKey(dir)) {
+                entries.put(dir, new Entry(null, null, null));
+            }
+        }
+    }
+
+    void write(Path target) throws IOException {
+        List<String> names = new ArrayList<>(entries.keySet());
+        names.sort(ORDER);
+
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            for (Entry entry : entries.values()) {
+                if (entry.data != null) {
+                    final byte[] data = entry.data;
+                    entry.compressed = executor.submit(new Callable<Compressed>() {
+                        @Override
+                        public Compressed call() {
+                            return compress(data);
+                        }
+                    });
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Map<Path, FileChannel> sources = new HashMap<>();
+        try (CountingOutputStream out = new CountingOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(target), 64 * 1024))) {
+            ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+            for (String name : names) {
+                Entry entry = entries.get(name);
+                byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+                long offset = out.count;
+                if (offset > MAX_32) {
+                    throw new IOException("The jar is too large: " + target);
+                }
+                int method;
+                long crc;
+                long compressedSize;
+                long size;
+                byte[] data = null;
+                if (entry.compressed != null) {
+                    Compressed compressed = getCompressed(entry.compressed);
+                    method = ZipEntry.DEFLATED;
+                    crc = compressed.crc;
+                    compressedSize = compressed.data.length;
+                    size = entry.data.length;
+                    data = compressed.data;
+                } else if (entry.raw != null) {
+                    method = entry.raw.method;
+                    crc = entry.raw.crc;
+                    compressedSize = entry.raw.compressedSize;
+                    size = entry.raw.size;
+                } else {
+                    // directory
+                    method = ZipEntry.STORED;
+                    crc = 0;
+                    compressedSize = 0;
+                    size = 0;
+                }
+                if (compressedSize > MAX_32 || size > MAX_32) {
+                    throw new IOException("The entry " + name + " is too large");
+                }
+                int version = method == ZipEntry.DEFLATED ? 20 : 10;
+
+                writeInt(out, LOCAL_HEADER);
+                writeShort(out, version);
+                writeShort(out, UTF8_FLAG);
+                writeShort(out, method);
+                writeShort(out, DOS_TIME);
+                writeShort(out, DOS_DATE);
+                writeInt(out, crc);
+                writeInt(out, compressedSize);
+                writeInt(out, size);
+                writeShort(out, nameBytes.length);
+                writeShort(out, 0);
+                out.write(nameBytes);
+                if (data != null) {
+                    out.write(data);
+                } else if (entry.raw != null) {
+                    FileChannel source = sources.get(entry.sourceJar);
+                    if (source == null) {
+                        source = FileChannel.open(entry.sourceJar, StandardOpenOption.READ);
+                        sources.put(entry.sourceJar, source);
+                    }
+                    copyRaw(source, entry.sourceJar, entry.raw, out);
+                }
+
+                writeInt(centralDirectory, CENTRAL_HEADER);
+                writeShort(centralDirectory, version);
+                writeShort(centralDirectory, version);
+                writeShort(centralDirectory, UTF8_FLAG);
+                writeShort(centralDirectory, method);
+                writeShort(centralDirectory, DOS_TIME);
+                writeShort(centralDirectory, DOS_DATE);
+                writeInt(centralDirectory, crc);
+                writeInt(centralDirectory, compressedSize);
+                writeInt(centralDirectory, size);
+                writeShort(centralDirectory, nameBytes.length);
+                // extra field, comment, disk number, internal attributes
+                writeShort(centralDirectory, 0);
+                writeShort(centralDirectory, 0);
+                writeShort(centralDirectory, 0);
+                writeShort(centralDirectory, 0);
+                // external attributes, MS-DOS directory flag for directories
+                writeInt(centralDirectory, name.endsWith("/") ? 0x10 : 0);
+                writeInt(centralDirectory, offset);
+                centralDirectory.write(nameBytes);
+            }
+
+            long centralDirectoryOffset = out.count;
+            if (centralDirectoryOffset > MAX_32) {
+                throw new IOException("The jar is too large: " + target);
+            }
+            centralDirectory.writeTo(out);
+            long centralDirectorySize = centralDirectory.size();
+            if (names.size() >= MAX_16) {
+                // zip64 is only needed for the number of entries
+                long zip64Offset = out.count;
+                writeInt(out, ZIP64_END_OF_CENTRAL_DIRECTORY);
+                writeLong(out, 44);
+                writeShort(out, 45);
+                writeShort(out, 45);
+                writeInt(out, 0);
+                writeInt(out, 0);
+                writeLong(out, names.size());
+                writeLong(out, names.size());
+                writeLong(out, centralDirectorySize);
+                writeLong(out, centralDirectoryOffset);
+                writeInt(out, ZIP64_LOCATOR);
+                writeInt(out, 0);
+                writeLong(out, zip64Offset);
+                writeInt(out, 1);
+            }
+            int count = Math.min(names.size(), MAX_16);
+            writeInt(out, END_OF_CENTRAL_DIRECTORY);
+            writeShort(out, 0);
+            writeShort(out, 0);
+            writeShort(out, count);
+            writeShort(out, count);
+            writeInt(out, centralDirectorySize);
+            writeInt(out, centralDirectoryOffset);
+            writeShort(out, 0);
+        } finally {
+            for (FileChannel source : sources.values()) {
+                source.close();
+            }
+        }
+    }
+
+    private static void copyRaw(FileChannel source, Path sourceJar, RawEntry entry, OutputStream out) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(30).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(source, header, entry.localHeaderOffset);
+        if (header.getInt(0) != LOCAL_HEADER) {
+            throw new IOException("Invalid local header of " + entry.name + " in " + sourceJar);
+        }
+        long position = entry.localHeaderOffset + 30 + (header.getShort(26) & MAX_16) + (header.getShort(28) & MAX_16);
+        long remaining = entry.compressedSize;
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(remaining, 64 * 1024));
+        while (remaining > 0) {
+            buffer.clear();
+            buffer.limit((int) Math.min(remaining, buffer.capacity()));
+            int read = source.read(buffer, position);
+            if (read < 0) {
+                throw new IOException("Unexpected end of " + sourceJar);
+            }
+            out.write(buffer.array(), 0, read);
+            position += read;
+            remaining -= read;
+        }
+    }
+
+    /**
+     *
+     * @param jar
+     * @return the entries of the jar or {@code null} if the entries cannot be copied raw, e.g. for zip64 or encrypted entries
+     * @throws IOException
+     */
+    static Map<String, RawEntry> readEntries(Path jar) throws IOException {
+        try (FileChannel channel = FileChannel.open(jar, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < 22) {
+                return null;
+            }
+            int tail = (int) Math.min(size, 22 + MAX_16);
+            ByteBuffer buffer = ByteBuffer.allocate(tail).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, buffer, size - tail);
+            int end = -1;
+            for (int i = tail - 22; i >= 0; i--) {
+                if (buffer.getInt(i) == END_OF_CENTRAL_DIRECTORY) {
+                    end = i;
+                    break;
+                }
+            }
+            if (end == -1) {
+                return null;
+            }
+            int count = buffer.getShort(end + 10) & MAX_16;
+            long centralDirectorySize = buffer.getInt(end + 12) & MAX_32;
+            long centralDirectoryOffset = buffer.getInt(end + 16) & MAX_32;
+            if (count == MAX_16 || centralDirectorySize == MAX_32 || centralDirectoryOffset == MAX_32
+                    || centralDirectoryOffset + centralDirectorySize != size - tail + end) {
+                // zip64 or data before the first entry
+                return null;
+            }
+            ByteBuffer centralDirectory = ByteBuffer.allocate((int) centralDirectorySize).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(channel, centralDirectory, centralDirectoryOffset);
+            Map<String, RawEntry> entries = new HashMap<>();
+            int pos = 0;
+            for (int i = 0; i < count; i++) {
+                if (pos + 46 > centralDirectorySize || centralDirectory.getInt(pos) != CENTRAL_HEADER) {
+                    return null;
+                }
+                int flags = centralDirectory.getShort(pos + 8) & MAX_16;
+                int method = centralDirectory.getShort(pos + 10) & MAX_16;
+                long crc = centralDirectory.getInt(pos + 16) & MAX_32;
+                long compressedSize = centralDirectory.getInt(pos + 20) & MAX_32;
+                long uncompressedSize = centralDirectory.getInt(pos + 24) & MAX_32;
+                int nameLength = centralDirectory.getShort(pos + 28) & MAX_16;
+                int extraLength = centralDirectory.getShort(pos + 30) & MAX_16;
+                int commentLength = centralDirectory.getShort(pos + 32) & MAX_16;
+                long localHeaderOffset = centralDirectory.getInt(pos + 42) & MAX_32;
+                if ((flags & 1) != 0 || (method != ZipEntry.STORED && method != ZipEntry.DEFLATED)
+                        || compressedSize == MAX_32 || uncompressedSize == MAX_32 || localHeaderOffset == MAX_32) {
+                    return null;
+                }
+                byte[] name = new byte[nameLength];
+                centralDirectory.position(pos + 46);
+                centralDirectory.get(name);
+                String entryName = new String(name, StandardCharsets.UTF_8);
+                entries.put(entryName,
+                        new RawEntry(entryName, method, crc, compressedSize, uncompressedSize, localHeaderOffset));
+                pos += 46 + nameLength + extraLength + commentLength;
+            }
+            return entries;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position + buffer.position());
+            if (read < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    private static Compressed compress(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return new Compressed(out.toByteArray(), crc.getValue());
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static Compressed getCompressed(Future<Compressed> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while compressing the jar entries", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to compress a jar entry", e.getCause());
+        }
+    }
+
+    private static void writeShort(OutputStream out, int value) throws IOException {
+        out.write(value & 0xFF);
+        out.write((value >>> 8) & 0xFF);
+    }
+
+    private static void writeInt(OutputStream out, long value) throws IOException {
+        writeShort(out, (int) (value & MAX_16));
+        writeShort(out, (int) ((value >>> 16) & MAX_16));
+    }
+
+    private static void writeLong(OutputStream out, long value) throws IOException {
+        writeInt(out, value & MAX_32);
+        writeInt(out, value >>> 32);
+    }
+
+    /**
+     * An entry of a source jar.
+     */
+    static final class RawEntry {
+
+        final String name;
+        final int method;
+        final long crc;
+        final long compressedSize;
+        final long size;
+        final long localHeaderOffset;
+
+        RawEntry(String name, int method, long crc, long compressedSize, long size, long localHeaderOffset) {
+            this.name = name;
+            this.method = method;
+            this.crc = crc;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.localHeaderOffset = localHeaderOffset;
+        }
+
+    }
+
+    private static final class Entry {
+
+        // in-memory content
+        final byte[] data;
+        // raw copy
+        final Path sourceJar;
+        final RawEntry raw;
+
+        Future<Compressed> compressed;
+
+        Entry(byte[] data, Path sourceJar, RawEntry raw) {
+            this.data = data;
+            this.sourceJar = sourceJar;
+            this.raw = raw;
+        }
+
+    }
+
+    private static final class Compressed {
+
+        final byte[] data;
+        final long crc;
+
+        Compressed(byte[] data, long crc) {
+            this.data = data;
+            this.crc = crc;
+        }
+
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+
+    }
+
+}
@@ -0,0 +1,24 @@
+package io.quarkus.deployment.steps;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import io.quarkus.deployment.BuildCacheConfig;
+import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.builditem.BuildCacheBuildItem;
+import io.quarkus.deployment.pkg.builditem.BuildSystemTargetBuildItem;
+
+public class BuildCacheBuildStep {
+
+    private static final String DEFAULT_DIRECTORY = "quarkus-build-cache";
+
+    @BuildStep
+    BuildCacheBuildItem buildCache(BuildSystemTargetBuildItem target, BuildCacheConfig config) {
+        if (!config.enabled) {
+            return new BuildCacheBuildItem(null);
+        }
+        Path directory = config.directory.isPresent() ? Paths.get(config.directory.get())
+                : target.getOutputDirectory().resolve(DEFAULT_DIRECTORY);
+        return new BuildCacheBuildItem(directory.toAbsolutePath());
+    }
+}
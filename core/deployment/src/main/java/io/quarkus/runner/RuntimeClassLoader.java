@@ -3,6 +3,7 @@ package io.quarkus.runner;
 import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
@@ -20,19 +21,26 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.CodeSource;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.ProtectionDomain;
 import java.security.cert.Certificate;
 import java.util.ArrayList;
-import java.util.Base64;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -44,7 +52,7 @@ import org.objectweb.asm.ClassWriter;
 
 import io.quarkus.deployment.ClassOutput;
 
-public class RuntimeClassLoader extends ClassLoader implements ClassOutput, TransformerTarget {
+public class RuntimeClassLoader extends ClassLoader implements ClassOutput, TransformerTarget, Closeable {
 
     private static final Logger log = Logger.getLogger(RuntimeClassLoader.class);
 
@@ -63,9 +71,20 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
     private final ProtectionDomain defaultProtectionDomain;
 
     private final Path frameworkClassesPath;
-    private final Path transformerCache;
+    private final TransformedClassCache transformedClassCache;
+
+    private final boolean preloadClasses;
+    // the list of classes used by the previous run, null if there is no cache directory
+    private final Path preloadList;
+    // the classes used by the application in the order they were first requested, null if not recorded
+    private final Queue<String> usedClasses;
+    private final Set<String> usedClassNames;
 
     private static final String DEBUG_CLASSES_DIR = System.getProperty("quarkus.debug.generated-classes-dir");
+    private static final String PRELOAD_CLASSES_PROPERTY = "quarkus.live-reload.preload-classes";
+    private static final String PRELOAD_LIST_FILE = "preload-classes.lst";
+    // set for the threads that preload classes so that the preloaded classes are not recorded as used
+    private static final ThreadLocal<Boolean> PRELOADING = new ThreadLocal<>();
 
     private final ConcurrentHashMap<String, LoadingClass> loadingClasses = new ConcurrentHashMap<>();
 
@@ -105,7 +124,11 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
             throw new IllegalStateException(
                     "Test classes directory path does not point to an existing directory: " + frameworkClassesPath);
         }
-        this.transformerCache = transformerCache;
+        this.transformedClassCache = transformerCache != null ? TransformedClassCache.open(transformerCache) : null;
+        this.preloadClasses = Boolean.getBoolean(PRELOAD_CLASSES_PROPERTY);
+        this.preloadList = preloadClasses && transformerCache != null ? transformerCache.resolve(PRELOAD_LIST_FILE) : null;
+        this.usedClasses = preloadList != null ? new ConcurrentLinkedQueue<>() : null;
+        this.usedClassNames = preloadList != null ? Collections.newSetFromMap(new ConcurrentHashMap<>()) : null;
     }
 
     @Override
@@ -183,6 +206,12 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
 
     @Override
     protected Class<?> findClass(String name) throws ClassNotFoundException {
+        Class<?> clazz = findApplicationClass(name);
+        classUsed(name);
+        return clazz;
+    }
+
+    private Class<?> findApplicationClass(String name) throws ClassNotFoundException {
         Class<?> existing = findLoadedClass(name);
         if (existing != null) {
             return existing;
@@ -242,6 +271,94 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
         throw new ClassNotFoundException(name);
     }
 
+    private void classUsed(String name) {
+        // the classes loaded by the preload threads, e.g. the superclasses of a preloaded class, are not recorded
+        if (PRELOADING.get() == null) {
+            record(name);
+        }
+    }
+
+    private void record(String name) {
+        if (usedClasses != null && usedClassNames.add(name)) {
+            usedClasses.add(name);
+        }
+    }
+
+    /**
+     * Load the application classes in parallel so that the application does not have to load them one by one on startup.
+     * The classes used by the previous run are loaded if known, the generated application classes otherwise. The classes
+     * are not initialized.
+     * <p>
+     * A preloaded class that is used later is resolved by the JVM without asking this class loader again, so the usage
+     * cannot be observed. Therefore, the preloaded classes are kept in the list for the next run together with the
+     * classes the application loaded on demand, and only the classes that no longer exist are removed from the list.
+     * <p>
+     * Does nothing unless enabled with the {@code quarkus.live-reload.preload-classes} system property. The preloading only
+     * applies if the {@link RuntimeRunner} creates this class loader, i.e. not to {@code @QuarkusTest} where the classes are
+     * loaded by the test class loader.
+     */
+    public void preloadClasses() {
+        if (!preloadClasses) {
+            return;
+        }
+        List<String> names = null;
+        if (preloadList != null && Files.isRegularFile(preloadList)) {
+            try {
+                names = Files.readAllLines(preloadList, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                log.debug("Unable to read the list of classes to preload", e);
+            }
+        }
+        if (names == null) {
+            names = new ArrayList<>(appClasses.keySet());
+        }
+        long start = System.nanoTime();
+        Queue<String> queue = new ConcurrentLinkedQueue<>(names);
+        AtomicInteger loaded = new AtomicInteger();
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<Callable<Void>> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    PRELOADING.set(Boolean.TRUE);
+                    try {
+                        preload(queue, loaded);
+                    } finally {
+                        PRELOADING.remove();
+                    }
+                    return null;
+                }
+            });
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            executor.invokeAll(workers);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdownNow();
+        }
+        log.debugf("Preloaded %d classes in %d ms", loaded.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private void preload(Queue<String> queue, AtomicInteger loaded) {
+        String name;
+        while ((name = queue.poll()) != null) {
+            if (!appClasses.containsKey(name) && getClassInApplicationClassPaths(name) == null) {
+                // e.g. a class that was deleted since the previous run
+                continue;
+            }
+            try {
+                loadClass(name, false);
+                loaded.incrementAndGet();
+                record(name);
+            } catch (ClassNotFoundException | LinkageError | RuntimeException e) {
+                log.debugf(e, "Unable to preload %s", name);
+            }
+        }
+    }
+
     @Override
     public void writeClass(boolean applicationClass, String className, byte[] data) {
         if (applicationClass) {
@@ -409,19 +526,16 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
             return bytes;
         }
 
-        Path hashPath = null;
-        if (transformerCache != null) {
-
+        byte[] hash = null;
+        if (transformedClassCache != null) {
             try {
-                MessageDigest md = MessageDigest.getInstance("MD5");
-                byte[] thedigest = md.digest(bytes);
-                String hash = Base64.getUrlEncoder().encodeToString(thedigest);
-                hashPath = transformerCache.resolve(hash);
-                if (Files.exists(hashPath)) {
-                    return readFileContent(hashPath);
-                }
-            } catch (Exception e) {
-                log.error("Unable to load transformed class from cache", e);
+                hash = MessageDigest.getInstance("MD5").digest(bytes);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            byte[] cached = transformedClassCache.get(hash);
+            if (cached != null) {
+                return cached;
             }
         }
 
@@ -438,19 +552,26 @@ public class RuntimeClassLoader extends ClassLoader implements ClassOutput, Tran
         }
         cr.accept(visitor, 0);
         byte[] data = writer.toByteArray();
-        if (hashPath != null) {
-            try {
+        if (hash != null) {
+            transformedClassCache.put(hash, data);
+        }
+        return data;
+    }
 
-                File file = hashPath.toFile();
-                file.getParentFile().mkdirs();
-                try (FileOutputStream out = new FileOutputStream(file)) {
-                    out.write(data);
-                }
-            } catch (Exception e) {
-                log.error("Unable to write class to cache", e);
+    @Override
+    public void close() throws IOException {
+        if (usedClasses != null && !usedClasses.isEmpty()) {
+            // the classes to preload in the next run
+            try {
+                Files.createDirectories(preloadList.getParent());
+                Files.write(preloadList, usedClasses, StandardCharsets.UTF_8);
+            } catch (IOException e) {
+                log.debug("Unable to write the list of classes to preload", e);
             }
         }
-        return data;
+        if (transformedClassCache != null) {
+            transformedClassCache.close();
+        }
     }
 
     private String sanitizeName(String name) {
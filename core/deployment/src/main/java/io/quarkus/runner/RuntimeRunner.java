@@ -83,8 +83,15 @@ public class RuntimeRunner implements Runnable, Closeable {
 
     @Override
     public void close() throws IOException {
-        if (closeTask != null) {
-            closeTask.close();
+        try {
+            if (closeTask != null) {
+                closeTask.close();
+            }
+        } finally {
+            if (loader instanceof RuntimeClassLoader && classOutput == loader) {
+                // the loader was created by this runner
+                ((RuntimeClassLoader) loader).close();
+            }
         }
     }
 
@@ -142,6 +149,10 @@ public class RuntimeRunner implements Runnable, Closeable {
                 classOutput.writeResource(i.getName(), i.getClassData());
             }
 
+            if (loader instanceof RuntimeClassLoader && classOutput == loader) {
+                ((RuntimeClassLoader) loader).preloadClasses();
+            }
+
             final Application application;
             final String className = result.consume(ApplicationClassNameBuildItem.class).getClassName();
             ClassLoader old = Thread.currentThread().getContextClassLoader();
@@ -0,0 +1,325 @@
+package io.quarkus.runner;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+
+import org.jboss.logging.Logger;
+
+/**
+ * A persistent cache of transformed classes, keyed by the hash of the original bytecode.
+ * <p>
+ * The entries are stored in a single append-only file that is memory mapped when the cache is opened. The index is built
+ * once when the cache is opened, so a lookup does not touch the file system. Each entry carries a CRC32 checksum that is
+ * verified on read; a corrupted entry is ignored and the class is transformed again.
+ * <p>
+ * The file consists of a header (magic, version) followed by the entries (16 bytes hash, int length, int checksum, data).
+ * A truncated last entry, e.g. if the JVM crashed while writing it, is discarded. The entries of classes that changed are
+ * never removed, instead the whole file is discarded when it exceeds {@link #MAX_SIZE}. The file is never truncated in
+ * place because another process may have it mapped; a new file is written and atomically moved over the old one instead.
+ * <p>
+ * A file lock is held on behalf of the whole JVM, i.e. it only guards the file against other processes. The instances
+ * that use the same file within the JVM, e.g. the class loaders of subsequent dev mode restarts, are serialized by means
+ * of a shared mutex before the file lock is acquired.
+ */
+final class TransformedClassCache implements Closeable {
+
+    private static final Logger log = Logger.getLogger(TransformedClassCache.class);
+
+    static final String FILE_NAME = "transformed-classes.dat";
+    static final long MAX_SIZE = 64 * 1024 * 1024;
+
+    private static final int MAGIC = 0x51544343;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    static final int HASH_SIZE = 16;
+    private static final int ENTRY_HEADER_SIZE = HASH_SIZE + 8;
+
+    // file -> mutex shared by all instances in the JVM
+    private static final ConcurrentMap<Path, Object> MUTEXES = new ConcurrentHashMap<>();
+
+    private final Path file;
+    private final Object mutex;
+    private final FileChannel channel;
+    // null if the file was empty when opened
+    private final MappedByteBuffer mapped;
+    // hash -> entry
+    private final Map<ByteBuffer, Entry> index;
+    // the hashes of the entries written by this instance
+    private final Set<ByteBuffer> written = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder corrupted = new LongAdder();
+
+    // true if the file is invalid and could not be replaced
+    private final boolean readOnly;
+
+    private volatile boolean closed;
+
+    private TransformedClassCache(Path file, FileChannel channel, MappedByteBuffer mapped, Map<ByteBuffer, Entry> index,
+            boolean readOnly) {
+        this.file = file;
+        this.mutex = mutex(file);
+        this.channel = channel;
+        this.mapped = mapped;
+        this.index = index;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     *
+     * @param directory
+     * @return the cache or {@code null} if the cache file cannot be opened
+     */
+    static TransformedClassCache open(Path directory) {
+        Path file = directory.resolve(FILE_NAME);
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            log.error("Unable to open the transformed class cache " + file, e);
+            return null;
+        }
+        synchronized (mutex(file)) {
+            return open(directory, file);
+        }
+    }
+
+    private static TransformedClassCache open(Path directory, Path file) {
+        // the file is replaced at most once
+        for (boolean replaced = false;; replaced = true) {
+            FileChannel channel = null;
+            try {
+                channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                try (FileLock lock = channel.lock()) {
+                    long size = channel.size();
+                    Map<ByteBuffer, Entry> index = new ConcurrentHashMap<>();
+                    if (size == 0) {
+                        // a new file
+                        write(channel, header(), 0);
+                        return new TransformedClassCache(file, channel, null, index, false);
+                    }
+                    MappedByteBuffer mapped = null;
+                    long valid = 0;
+                    if (size >= HEADER_SIZE && size <= MAX_SIZE) {
+                        mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                        if (mapped.getInt(0) == MAGIC && mapped.getInt(4) == VERSION) {
+                            valid = readIndex(mapped, index);
+                        }
+                    }
+                    if (valid == size) {
+                        return new TransformedClassCache(file, channel, mapped, index, false);
+                    }
+                    // An incompatible or too large file, or the last entry is truncated. The file may be mapped by another
+                    // process, so it's never truncated in place but replaced with a new file
+                    if (replaced || !replace(directory, file, mapped, valid)) {
+                        // E.g. on Windows a file cannot be replaced while it's mapped; use the valid entries but do not
+                        // append new ones after the invalid content
+                        if (valid == 0) {
+                            index.clear();
+                            mapped = null;
+                        }
+                        return new TransformedClassCache(file, channel, mapped, index, true);
+                    }
+                }
+                // open the new file
+                channel.close();
+            } catch (IOException | OverlappingFileLockException e) {
+                log.error("Unable to open the transformed class cache " + file, e);
+                if (channel != null) {
+                    try {
+                        channel.close();
+                    } catch (IOException ignored) {
+                    }
+                }
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Atomically replaces the file with a new one that contains the header and the valid entries.
+     *
+     * @return {@code true} if the file was replaced
+     */
+    private static boolean replace(Path directory, Path file, MappedByteBuffer mapped, long valid) {
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, FILE_NAME, ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                if (valid == 0) {
+                    write(channel, header(), 0);
+                } else {
+                    ByteBuffer content = mapped.duplicate();
+                    content.limit((int) valid);
+                    write(channel, content, 0);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+            return true;
+        } catch (IOException e) {
+            log.debugf(e, "Unable to replace the transformed class cache %s", file);
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+            return false;
+        }
+    }
+
+    private static Object mutex(Path file) {
+        return MUTEXES.computeIfAbsent(file.toAbsolutePath().normalize(), f -> new Object());
+    }
+
+    private static ByteBuffer header() {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        return header;
+    }
+
+    private static long readIndex(MappedByteBuffer mapped, Map<ByteBuffer, Entry> index) {
+        int limit = mapped.limit();
+        int position = HEADER_SIZE;
+        while (position + ENTRY_HEADER_SIZE <= limit) {
+            int length = mapped.getInt(position + HASH_SIZE);
+            if (length < 0 || position + ENTRY_HEADER_SIZE + (long) length > limit) {
+                break;
+            }
+            byte[] hash = new byte[HASH_SIZE];
+            ByteBuffer source = mapped.duplicate();
+            source.position(position);
+            source.get(hash);
+            // the last entry for a hash wins
+            index.put(ByteBuffer.wrap(hash),
+                    new Entry(position + ENTRY_HEADER_SIZE, length, mapped.getInt(position + HASH_SIZE + 4)));
+            position += ENTRY_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    /**
+     *
+     * @param hash the hash of the original bytecode
+     * @return the transformed bytecode or {@code null} if not cached
+     */
+    byte[] get(byte[] hash) {
+        ByteBuffer key = ByteBuffer.wrap(hash);
+        Entry entry = closed ? null : index.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        byte[] data = new byte[entry.length];
+        ByteBuffer source = mapped.duplicate();
+        source.position(entry.position);
+        source.get(data);
+        if (checksum(data) != entry.checksum) {
+            log.debugf("Ignoring a corrupted entry in the transformed class cache %s", file);
+            index.remove(key, entry);
+            corrupted.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return data;
+    }
+
+    /**
+     * Append the transformed bytecode to the cache file. The entry is available for lookups once the cache is opened again.
+     *
+     * @param hash the hash of the original bytecode
+     * @param data the transformed bytecode
+     */
+    void put(byte[] hash, byte[] data) {
+        if (closed || readOnly || !written.add(ByteBuffer.wrap(hash))) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(ENTRY_HEADER_SIZE + data.length);
+        buffer.put(hash).putInt(data.length).putInt(checksum(data)).put(data);
+        buffer.flip();
+        try {
+            synchronized (mutex) {
+                if (closed) {
+                    return;
+                }
+                // another process may append to the same file
+                try (FileLock lock = channel.lock()) {
+                    write(channel, buffer, channel.size());
+                }
+            }
+        } catch (IOException | OverlappingFileLockException e) {
+            log.error("Unable to write class to cache", e);
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    long getCorrupted() {
+        return corrupted.sum();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        long hits = getHits();
+        long lookups = hits + getMisses();
+        log.debugf("Transformed class cache %s: %d hits, %d misses (%d corrupted), hit rate %.1f%%, %d entries written",
+                file, hits, getMisses(), getCorrupted(), lookups == 0 ? 0.0 : hits * 100.0 / lookups, written.size());
+        synchronized (mutex) {
+            channel.close();
+        }
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static int checksum(byte[] data) {
+        CRC32 crc = new CRC32();
+        crc.update(data, 0, data.length);
+        return (int) crc.getValue();
+    }
+
+    private static final class Entry {
+
+        final int position;
+        final int length;
+        final int checksum;
+
+        Entry(int position, int length, int checksum) {
+            this.position = position;
+            this.length = length;
+            this.checksum = checksum;
+        }
+
+    }
+
+}
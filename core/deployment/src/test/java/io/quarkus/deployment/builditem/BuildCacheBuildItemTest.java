@@ -0,0 +1,68 @@
+package io.quarkus.deployment.builditem;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.deployment.util.IoUtil;
+
+public class BuildCacheBuildItemTest {
+
+    private static final BuildCacheBuildItem.EntryReader<String> READER = in -> new String(IoUtil.readBytes(in),
+            StandardCharsets.UTF_8);
+    private static final BuildCacheBuildItem.EntryWriter<String> WRITER = (value, out) -> out
+            .write(value.getBytes(StandardCharsets.UTF_8));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testPutAndGet() {
+        BuildCacheBuildItem cache = new BuildCacheBuildItem(directory);
+        String key = BuildCacheBuildItem.key("foo", 1);
+        assertNull(cache.get("test", key, READER));
+        cache.put("test", key, "bar", WRITER);
+        assertEquals("bar", cache.get("test", key, READER));
+        // Another build reuses the entry
+        assertEquals("bar", new BuildCacheBuildItem(directory).get("test", key, READER));
+        assertNull(cache.get("other", key, READER));
+    }
+
+    @Test
+    public void testCorruptedEntry() {
+        BuildCacheBuildItem cache = new BuildCacheBuildItem(directory);
+        cache.put("test", "key", "bar", WRITER);
+        assertNull(cache.get("test", "key", in -> {
+            throw new IOException("Corrupted");
+        }));
+        // The entry was discarded
+        assertFalse(Files.exists(directory.resolve("test").resolve("key")));
+    }
+
+    @Test
+    public void testDisabled() {
+        BuildCacheBuildItem cache = new BuildCacheBuildItem(null);
+        assertFalse(cache.isEnabled());
+        cache.put("test", "key", "bar", WRITER);
+        assertNull(cache.get("test", "key", READER));
+    }
+
+    @Test
+    public void testFileKey() throws IOException {
+        Path file = Files.write(directory.resolve("foo.jar"), new byte[] { 1, 2, 3 });
+        String key = BuildCacheBuildItem.key(file);
+        assertEquals(key, BuildCacheBuildItem.key(file));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() - 10_000));
+        assertNotEquals(key, BuildCacheBuildItem.key(file));
+    }
+}
@@ -0,0 +1,105 @@
+package io.quarkus.deployment.pkg.steps;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.deployment.util.IoUtil;
+
+public class UberJarWriterTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testWrite() throws IOException {
+        Path source = directory.resolve("source.jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(source))) {
+            out.putNextEntry(new ZipEntry("org/acme/Foo.class"));
+            out.write(bytes("foo"));
+            ZipEntry stored = new ZipEntry("org/acme/stored.txt");
+            stored.setMethod(ZipEntry.STORED);
+            stored.setSize(6);
+            stored.setCompressedSize(6);
+            CRC32 crc = new CRC32();
+            crc.update(bytes("stored"));
+            stored.setCrc(crc.getValue());
+            out.putNextEntry(stored);
+            out.write(bytes("stored"));
+        }
+        Map<String, UberJarWriter.RawEntry> rawEntries = UberJarWriter.readEntries(source);
+        assertNotNull(rawEntries);
+        assertEquals(2, rawEntries.size());
+
+        Path first = directory.resolve("first.jar");
+        Path second = directory.resolve("second.jar");
+        for (Path target : Arrays.asList(first, second)) {
+            UberJarWriter writer = new UberJarWriter();
+            writer.add("org/acme/Generated.class", bytes("generated"));
+            writer.addRaw("org/acme/Foo.class", source, rawEntries.get("org/acme/Foo.class"));
+            writer.addRaw("org/acme/stored.txt", source, rawEntries.get("org/acme/stored.txt"));
+            writer.add("META-INF/MANIFEST.MF", bytes("Manifest-Version: 1.0\r\nMain-Class: org.acme.Main\r\n\r\n"));
+            writer.write(target);
+        }
+        // the jar is reproducible
+        assertArrayEquals(Files.readAllBytes(first), Files.readAllBytes(second));
+
+        List<String> names = new ArrayList<>();
+        try (ZipFile zipFile = new ZipFile(first.toFile())) {
+            Enumeration<? extends ZipEntry> entries = zipFile.entries();
+            while (entries.hasMoreElements()) {
+                names.add(entries.nextElement().getName());
+            }
+            assertEquals("foo", string(zipFile, "org/acme/Foo.class"));
+            assertEquals("stored", string(zipFile, "org/acme/stored.txt"));
+            assertEquals("generated", string(zipFile, "org/acme/Generated.class"));
+        }
+        assertEquals(Arrays.asList("META-INF/", "META-INF/MANIFEST.MF", "org/", "org/acme/", "org/acme/Foo.class",
+                "org/acme/Generated.class", "org/acme/stored.txt"), names);
+        try (JarInputStream in = new JarInputStream(Files.newInputStream(first))) {
+            assertNotNull(in.getManifest());
+            assertEquals("org.acme.Main", in.getManifest().getMainAttributes().getValue("Main-Class"));
+        }
+    }
+
+    @Test
+    public void testManyEntries() throws IOException {
+        Path target = directory.resolve("many.jar");
+        UberJarWriter writer = new UberJarWriter();
+        for (int i = 0; i < 70000; i++) {
+            writer.add("entry" + i, new byte[0]);
+        }
+        writer.write(target);
+        try (ZipFile zipFile = new ZipFile(target.toFile())) {
+            assertEquals(70000, zipFile.size());
+            assertEquals("", string(zipFile, "entry69999"));
+        }
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(ZipFile zipFile, String name) throws IOException {
+        return new String(IoUtil.readBytes(zipFile.getInputStream(zipFile.getEntry(name))), StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,102 @@
+package io.quarkus.runner;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RuntimeClassLoaderPreloadTest {
+
+    private static final String PRELOAD_CLASSES_PROPERTY = "quarkus.live-reload.preload-classes";
+
+    @TempDir
+    Path directory;
+
+    Path classes;
+    Path frameworkClasses;
+    Path cache;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        System.setProperty(PRELOAD_CLASSES_PROPERTY, "true");
+        classes = Files.createDirectories(directory.resolve("classes"));
+        frameworkClasses = Files.createDirectories(directory.resolve("framework-classes"));
+        cache = directory.resolve("cache");
+        copyClass(Foo.class);
+        copyClass(Bar.class);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        System.clearProperty(PRELOAD_CLASSES_PROPERTY);
+    }
+
+    @Test
+    public void testPreloadClassesUsedByPreviousRun() throws Exception {
+        try (TestClassLoader loader = new TestClassLoader()) {
+            loader.preloadClasses();
+            assertFalse(loader.isDefined(Foo.class));
+            // The application uses Foo
+            assertSame(loader, loader.loadClass(Foo.class.getName()).getClassLoader());
+        }
+        try (TestClassLoader loader = new TestClassLoader()) {
+            loader.preloadClasses();
+            // Foo is defined before the application starts
+            assertTrue(loader.isDefined(Foo.class));
+            assertFalse(loader.isDefined(Bar.class));
+            // The application uses Bar
+            assertSame(loader, loader.loadClass(Bar.class.getName()).getClassLoader());
+        }
+        // Foo was deleted
+        Files.delete(classFile(Foo.class));
+        try (TestClassLoader loader = new TestClassLoader()) {
+            loader.preloadClasses();
+            assertFalse(loader.isDefined(Foo.class));
+            assertTrue(loader.isDefined(Bar.class));
+        }
+    }
+
+    private void copyClass(Class<?> clazz) throws IOException {
+        Path file = classFile(clazz);
+        Files.createDirectories(file.getParent());
+        try (InputStream in = clazz.getResourceAsStream("/" + clazz.getName().replace('.', '/') + ".class")) {
+            Files.copy(in, file);
+        }
+    }
+
+    private Path classFile(Class<?> clazz) {
+        return classes.resolve(clazz.getName().replace('.', '/') + ".class");
+    }
+
+    class TestClassLoader extends RuntimeClassLoader {
+
+        TestClassLoader() {
+            super(RuntimeClassLoaderPreloadTest.class.getClassLoader(), Collections.singletonList(classes),
+                    frameworkClasses, cache);
+        }
+
+        boolean isDefined(Class<?> clazz) {
+            return findLoadedClass(clazz.getName()) != null;
+        }
+
+    }
+
+    public static class Foo {
+
+    }
+
+    public static class Bar {
+
+    }
+
+}
@@ -0,0 +1,159 @@
+package io.quarkus.runner;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TransformedClassCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testPutAndGet() throws IOException {
+        byte[] foo = hash(1);
+        byte[] bar = hash(2);
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            assertNotNull(cache);
+            assertNull(cache.get(foo));
+            cache.put(foo, bytes("foo"));
+            cache.put(bar, bytes("bar"));
+            assertEquals(0, cache.getHits());
+            assertEquals(1, cache.getMisses());
+        }
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            assertArrayEquals(bytes("foo"), cache.get(foo));
+            assertArrayEquals(bytes("bar"), cache.get(bar));
+            assertNull(cache.get(hash(3)));
+            assertEquals(2, cache.getHits());
+            assertEquals(1, cache.getMisses());
+        }
+    }
+
+    @Test
+    public void testTruncatedEntry() throws IOException {
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            cache.put(hash(1), bytes("foo"));
+            cache.put(hash(2), bytes("bar"));
+        }
+        Path file = directory.resolve(TransformedClassCache.FILE_NAME);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            assertArrayEquals(bytes("foo"), cache.get(hash(1)));
+            assertNull(cache.get(hash(2)));
+            cache.put(hash(2), bytes("baz"));
+        }
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            assertArrayEquals(bytes("baz"), cache.get(hash(2)));
+        }
+    }
+
+    @Test
+    public void testCorruptedEntry() throws IOException {
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            cache.put(hash(1), bytes("foo"));
+        }
+        Path file = directory.resolve(TransformedClassCache.FILE_NAME);
+        byte[] content = Files.readAllBytes(file);
+        content[content.length - 1] = 'x';
+        Files.write(file, content);
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            assertNull(cache.get(hash(1)));
+            assertEquals(1, cache.getCorrupted());
+        }
+    }
+
+    @Test
+    public void testIncompatibleFile() throws IOException {
+        Path file = directory.resolve(TransformedClassCache.FILE_NAME);
+        Files.write(file, bytes("foo"));
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            assertNotNull(cache);
+            assertNull(cache.get(hash(1)));
+            cache.put(hash(1), bytes("foo"));
+        }
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            assertArrayEquals(bytes("foo"), cache.get(hash(1)));
+        }
+    }
+
+    @Test
+    public void testReplaceMappedFile() throws IOException {
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            cache.put(hash(1), bytes("foo"));
+        }
+        try (TransformedClassCache mapped = TransformedClassCache.open(directory)) {
+            // Another process writes an incompatible version
+            Path file = directory.resolve(TransformedClassCache.FILE_NAME);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(4).putInt(0, 42), 4);
+            }
+            try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+                assertNull(cache.get(hash(1)));
+            }
+            // The file mapped by the first cache is not truncated
+            assertArrayEquals(bytes("foo"), mapped.get(hash(1)));
+        }
+    }
+
+    @Test
+    public void testInstancesInSameJvm() throws Exception {
+        // E.g. the class loader of a failed dev mode start that was not closed yet
+        try (TransformedClassCache first = TransformedClassCache.open(directory);
+                TransformedClassCache second = TransformedClassCache.open(directory)) {
+            assertNotNull(first);
+            assertNotNull(second);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int i = 0; i < 100; i++) {
+                    int value = i;
+                    TransformedClassCache cache = i % 2 == 0 ? first : second;
+                    futures.add(executor.submit(() -> cache.put(hash(value), bytes("class" + value))));
+                }
+                for (Future<?> future : futures) {
+                    future.get(10, TimeUnit.SECONDS);
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+        try (TransformedClassCache cache = TransformedClassCache.open(directory)) {
+            for (int i = 0; i < 100; i++) {
+                assertArrayEquals(bytes("class" + i), cache.get(hash(i)));
+            }
+        }
+    }
+
+    private static byte[] hash(int value) {
+        byte[] hash = new byte[TransformedClassCache.HASH_SIZE];
+        Arrays.fill(hash, (byte) value);
+        return hash;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
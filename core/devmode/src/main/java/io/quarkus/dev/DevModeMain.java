@@ -132,6 +132,7 @@ public class DevModeMain implements Closeable {
             runtimeCl = new URLClassLoader(urls, ClassLoader.getSystemClassLoader());
             currentAppClassLoader = runtimeCl;
             ClassLoader old = Thread.currentThread().getContextClassLoader();
+            RuntimeRunner runner = null;
             //we can potentially throw away this class loader, and reload the app
             try {
                 Thread.currentThread().setContextClassLoader(runtimeCl);
@@ -173,7 +174,7 @@ public class DevModeMain implements Closeable {
                 buildSystemProperties.putAll(context.getBuildSystemProperties());
                 builder.setBuildSystemProperties(buildSystemProperties);
 
-                RuntimeRunner runner = builder
+                runner = builder
                         .build();
                 runner.run();
                 DevModeMain.runner = runner;
@@ -181,6 +182,14 @@ public class DevModeMain implements Closeable {
 
             } catch (Throwable t) {
                 deploymentProblem = t;
+                if (runner != null) {
+                    // release the resources held by the runner, e.g. the transformed class cache
+                    try {
+                        runner.close();
+                    } catch (Throwable e) {
+                        t.addSuppressed(e);
+                    }
+                }
                 if (context.isAbortOnFailedStart() || liveReload) {
                     log.error("Failed to start quarkus", t);
                 } else {
@@ -280,6 +289,9 @@ public class DevModeMain implements Closeable {
             for (HotReplacementSetup i : hotReplacement) {
                 i.close();
             }
+            if (runtimeUpdatesProcessor != null) {
+                runtimeUpdatesProcessor.close();
+            }
         }
     }
 }
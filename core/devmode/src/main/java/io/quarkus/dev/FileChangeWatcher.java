@@ -0,0 +1,185 @@
+package io.quarkus.dev;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Tracks the changes in a set of directory trees with a {@link WatchService}, so that a scan only needs to check the paths
+ * that changed since the previous scan.
+ * <p>
+ * If the changes under a root are not known, i.e. the root was not scanned yet, the events overflowed or a directory was
+ * created or deleted, {@link #pollChanges(Path)} returns {@code null} and the whole tree must be scanned.
+ */
+final class FileChangeWatcher implements Closeable {
+
+    private static final Logger log = Logger.getLogger(FileChangeWatcher.class);
+
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private final Map<Path, RootState> roots = new HashMap<>();
+
+    private FileChangeWatcher(WatchService watchService) {
+        this.watchService = watchService;
+    }
+
+    /**
+     *
+     * @return a new watcher or {@code null} if there is no native watch service for the default file system
+     */
+    static FileChangeWatcher create() {
+        try {
+            WatchService watchService = FileSystems.getDefault().newWatchService();
+            if (watchService.getClass().getName().endsWith("PollingWatchService")) {
+                // The polling implementation (e.g. on macOS) reports changes with a delay of several seconds
+                watchService.close();
+                return null;
+            }
+            return new FileChangeWatcher(watchService);
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Watch service not available, falling back to polling", e);
+            return null;
+        }
+    }
+
+    /**
+     * Start watching the given root if not watched yet.
+     *
+     * @param root
+     * @return {@code true} if the root is watched, {@code false} if it cannot be watched
+     */
+    synchronized boolean watch(Path root) {
+        if (roots.containsKey(root)) {
+            return true;
+        }
+        if (!Files.isDirectory(root)) {
+            return false;
+        }
+        try {
+            register(root);
+        } catch (IOException | ClosedWatchServiceException e) {
+            log.debugf(e, "Unable to watch %s, falling back to polling", root);
+            return false;
+        }
+        roots.put(root, new RootState());
+        return true;
+    }
+
+    /**
+     *
+     * @param root
+     * @return the paths under the root that were created, modified or deleted since the previous call, or {@code null} if
+     *         the changes are not known
+     */
+    synchronized Set<Path> pollChanges(Path root) {
+        RootState state = roots.get(root);
+        if (state == null) {
+            return null;
+        }
+        processEvents();
+        Set<Path> changes = state.unknown ? null : state.changes;
+        state.unknown = false;
+        state.changes = new HashSet<>();
+        return changes;
+    }
+
+    private void processEvents() {
+        WatchKey key;
+        while ((key = watchService.poll()) != null) {
+            Path dir = directories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (dir == null) {
+                    continue;
+                }
+                if (event.kind() == OVERFLOW) {
+                    markUnknown(dir);
+                    continue;
+                }
+                Path path = dir.resolve((Path) event.context());
+                if (event.kind() == ENTRY_CREATE && Files.isDirectory(path, LinkOption.NOFOLLOW_LINKS)) {
+                    // Files created before the new directory is registered are not reported
+                    try {
+                        register(path);
+                    } catch (IOException e) {
+                        log.debugf(e, "Unable to watch %s", path);
+                    }
+                    markUnknown(path);
+                } else {
+                    markChanged(path);
+                }
+            }
+            if (!key.reset()) {
+                // The directory is not accessible anymore, e.g. it was deleted
+                directories.remove(key);
+                if (dir != null) {
+                    markUnknown(dir);
+                    // A deleted root is registered again once it exists
+                    roots.remove(dir);
+                }
+            }
+        }
+    }
+
+    private void register(Path dir) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path directory, BasicFileAttributes attrs) throws IOException {
+                directories.put(directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE), directory);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void markChanged(Path path) {
+        for (Map.Entry<Path, RootState> entry : roots.entrySet()) {
+            if (path.startsWith(entry.getKey())) {
+                entry.getValue().changes.add(path);
+            }
+        }
+    }
+
+    private void markUnknown(Path path) {
+        for (Map.Entry<Path, RootState> entry : roots.entrySet()) {
+            if (path.startsWith(entry.getKey())) {
+                entry.getValue().unknown = true;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        directories.clear();
+        roots.clear();
+        watchService.close();
+    }
+
+    private static final class RootState {
+
+        // The root was not scanned yet
+        boolean unknown = true;
+        Set<Path> changes = new HashSet<>();
+
+    }
+
+}
@@ -33,6 +33,7 @@ import io.quarkus.runtime.Timing;
 
 public class RuntimeUpdatesProcessor implements HotReplacementContext {
     private static final String CLASS_EXTENSION = ".class";
+    private static final String WATCH_SERVICE_PROPERTY = "quarkus.live-reload.watch-service";
     private static final Logger log = Logger.getLogger(RuntimeUpdatesProcessor.class.getPackage().getName());
 
     private final DevModeContext context;
@@ -66,10 +67,21 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
     private final List<HotReplacementSetup> hotReplacementSetup = new ArrayList<>();
     private final DevModeMain devModeMain;
 
+    /**
+     * Tracks the changes in the source, classes and resources directories; {@code null} if every scan walks the directories
+     */
+    private final FileChangeWatcher watcher;
+    /**
+     * The names of the modules whose classes directory changed, or its changes are not known, since the previous scan
+     */
+    private final Set<String> changedClassesModules = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
     public RuntimeUpdatesProcessor(DevModeContext context, ClassLoaderCompiler compiler, DevModeMain devModeMain) {
         this.context = context;
         this.compiler = compiler;
         this.devModeMain = devModeMain;
+        this.watcher = Boolean.parseBoolean(System.getProperty(WATCH_SERVICE_PROPERTY, "true")) ? FileChangeWatcher.create()
+                : null;
     }
 
     @Override
@@ -166,10 +178,19 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
         for (DevModeContext.ModuleInfo module : context.getModules()) {
             final List<Path> moduleChangedSourceFilePaths = new ArrayList<>();
+            // Without a watcher or with unknown changes the class files of the module are always scanned
+            boolean moduleTouched = watcher == null;
 
             for (String sourcePath : module.getSourcePaths()) {
+                final Set<Path> changedPaths = getChangedPaths(Paths.get(sourcePath));
+                if (changedPaths == null || !changedPaths.isEmpty()) {
+                    // A source file might have been deleted
+                    moduleTouched = true;
+                }
                 final Set<File> changedSourceFiles;
-                try (final Stream<Path> sourcesStream = Files.walk(Paths.get(sourcePath))) {
+                try (final Stream<Path> sourcesStream = changedPaths != null
+                        ? changedPaths.stream().filter(Files::isRegularFile)
+                        : Files.walk(Paths.get(sourcePath))) {
                     changedSourceFiles = sourcesStream
                             .parallel()
                             .filter(p -> matchingHandledExtension(p).isPresent()
@@ -196,6 +217,21 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
 
             }
 
+            if (watcher != null && module.getClassesPath() != null) {
+                for (String folder : module.getClassesPath().split(File.pathSeparator)) {
+                    final Set<Path> changedPaths = getChangedPaths(Paths.get(folder));
+                    if (changedPaths == null || !changedPaths.isEmpty()) {
+                        moduleTouched = true;
+                        // e.g. the classes directory was wiped and the resources must be copied again
+                        changedClassesModules.add(module.getName());
+                    }
+                }
+            }
+            // Nothing changed in the module since the previous scan
+            if (!moduleTouched) {
+                continue;
+            }
+
             if (checkForClassFilesChangesInModule(module, moduleChangedSourceFilePaths, ignoreFirstScanChanges)) {
                 hasChanges = true;
             }
@@ -205,6 +241,18 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         return hasChanges;
     }
 
+    /**
+     *
+     * @param root
+     * @return the paths under the root that changed since the previous call, or {@code null} if the root must be walked
+     */
+    private Set<Path> getChangedPaths(Path root) {
+        if (watcher == null || !watcher.watch(root)) {
+            return null;
+        }
+        return watcher.pollChanges(root);
+    }
+
     private boolean checkForClassFilesChangesInModule(DevModeContext.ModuleInfo module, List<Path> moduleChangedSourceFiles,
             boolean isInitialRun) {
         boolean hasChanges = !moduleChangedSourceFiles.isEmpty();
@@ -305,7 +353,9 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
             }
             Path classesDir = Paths.get(module.getClassesPath());
             //copy all modified non hot deployment files over
-            if (doCopy) {
+            final Set<Path> changedResources = doCopy ? getChangedPaths(root) : null;
+            final boolean classesChanged = changedClassesModules.remove(module.getName());
+            if (doCopy && (changedResources == null || !changedResources.isEmpty() || classesChanged)) {
                 try {
                     final Set<Path> seen = new HashSet<>(moduleResources);
                     //since the stream is Closeable, use a try with resources so the underlying iterator is closed
@@ -446,6 +496,16 @@ public class RuntimeUpdatesProcessor implements HotReplacementContext {
         hotReplacementSetup.add(service);
     }
 
+    public void close() {
+        if (watcher != null) {
+            try {
+                watcher.close();
+            } catch (IOException e) {
+                log.debug("Failed to close the file watcher", e);
+            }
+        }
+    }
+
     public void startupFailed() {
         for (HotReplacementSetup i : hotReplacementSetup) {
             i.handleFailedInitialStart();
@@ -0,0 +1,94 @@
+package io.quarkus.dev;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileChangeWatcherTest {
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void testChanges() throws IOException, InterruptedException {
+        FileChangeWatcher watcher = FileChangeWatcher.create();
+        assumeTrue(watcher != null, "No native watch service available");
+        try {
+            Path foo = Files.write(root.resolve("Foo.java"), new byte[] { 1 });
+            assertTrue(watcher.watch(root));
+            // The root was not scanned yet
+            assertNull(watcher.pollChanges(root));
+            assertEquals(Collections.emptySet(), watcher.pollChanges(root));
+
+            Files.write(foo, new byte[] { 2 });
+            Path bar = Files.write(root.resolve("Bar.java"), new byte[] { 1 });
+            Set<Path> expected = new HashSet<>();
+            expected.add(foo);
+            expected.add(bar);
+            assertEquals(expected, awaitChanges(watcher, expected.size()));
+
+            // A new directory requires a full scan
+            Files.createDirectory(root.resolve("pkg"));
+            assertNull(awaitChanges(watcher, 1));
+            Path baz = Files.write(root.resolve("pkg").resolve("Baz.java"), new byte[] { 1 });
+            assertEquals(Collections.singleton(baz), awaitChanges(watcher, 1));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    @Test
+    public void testDeletedRoot() throws IOException, InterruptedException {
+        FileChangeWatcher watcher = FileChangeWatcher.create();
+        assumeTrue(watcher != null, "No native watch service available");
+        try {
+            Path classes = Files.createDirectory(root.resolve("classes"));
+            assertTrue(watcher.watch(classes));
+            assertNull(watcher.pollChanges(classes));
+            assertEquals(Collections.emptySet(), watcher.pollChanges(classes));
+
+            // The root is wiped and created again, e.g. by a clean build
+            Files.delete(classes);
+            assertNull(awaitChanges(watcher, classes, 1));
+            Files.createDirectory(classes);
+            assertTrue(watcher.watch(classes));
+            assertNull(watcher.pollChanges(classes));
+            Path foo = Files.write(classes.resolve("Foo.class"), new byte[] { 1 });
+            assertEquals(Collections.singleton(foo), awaitChanges(watcher, classes, 1));
+        } finally {
+            watcher.close();
+        }
+    }
+
+    private Set<Path> awaitChanges(FileChangeWatcher watcher, int count) throws InterruptedException {
+        return awaitChanges(watcher, root, count);
+    }
+
+    private Set<Path> awaitChanges(FileChangeWatcher watcher, Path root, int count) throws InterruptedException {
+        Set<Path> changes = new HashSet<>();
+        for (int i = 0; i < 100; i++) {
+            Set<Path> polled = watcher.pollChanges(root);
+            if (polled == null) {
+                return null;
+            }
+            changes.addAll(polled);
+            if (changes.size() >= count) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+        return changes;
+    }
+
+}
@@ -25,6 +25,12 @@ public abstract class Application {
 
     private static final String DISABLE_SIGNAL_HANDLERS = "DISABLE_SIGNAL_HANDLERS";
 
+    /**
+     * If this environment variable is set, the application is stopped as soon as it is started, e.g. to record the classes
+     * loaded during startup.
+     */
+    public static final String EXIT_AFTER_START = "QUARKUS_EXIT_AFTER_START";
+
     private static final int ST_INITIAL = 0;
     private static final int ST_STARTING = 1;
     private static final int ST_STARTED = 2;
@@ -208,6 +214,9 @@ public abstract class Application {
             final ShutdownHookThread shutdownHookThread = new ShutdownHookThread(Thread.currentThread());
             Runtime.getRuntime().addShutdownHook(shutdownHookThread);
             start(args);
+            if (System.getenv(EXIT_AFTER_START) != null) {
+                shutdownRequested = true;
+            }
             try {
                 while (!shutdownRequested) {
                     Thread.interrupted();
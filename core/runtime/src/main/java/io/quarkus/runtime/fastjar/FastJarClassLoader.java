@@ -0,0 +1,260 @@
+package io.quarkus.runtime.fastjar;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.security.CodeSource;
+import java.security.ProtectionDomain;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.jar.Attributes;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * The class loader of a fast-jar application.
+ * <p>
+ * Unlike {@link java.net.URLClassLoader} that searches all jars on the class path, this class loader uses the
+ * {@link FastJarIndex} to open only the jars that contain the directory of a class or a resource. The jars are opened
+ * lazily and kept open until the class loader is closed.
+ * <p>
+ * On Java 9+ the jars are opened as multi-release jars, i.e. the entries for the current Java version are used. The
+ * packages are defined from the manifest of the jar the same way as {@link java.net.URLClassLoader} does.
+ */
+public final class FastJarClassLoader extends ClassLoader implements Closeable {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    // JarFile(File, boolean, int, Runtime.Version) and Runtime.version(); null on Java 8
+    private static final Constructor<JarFile> MULTI_RELEASE_JAR_FILE;
+    private static final Object RUNTIME_VERSION;
+
+    static {
+        Constructor<JarFile> constructor = null;
+        Object version = null;
+        try {
+            Class<?> versionClass = Class.forName("java.lang.Runtime$Version");
+            constructor = JarFile.class.getConstructor(File.class, boolean.class, int.class, versionClass);
+            version = Runtime.class.getMethod("version").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            // Java 8 does not support multi-release jars
+            constructor = null;
+            version = null;
+        }
+        MULTI_RELEASE_JAR_FILE = constructor;
+        RUNTIME_VERSION = version;
+    }
+
+    private final Path root;
+    private final FastJarIndex index;
+    private final JarFile[] jarFiles;
+    private final String[] jarUrls;
+    private final Boolean[] multiRelease;
+    private final ProtectionDomain[] protectionDomains;
+
+    /**
+     *
+     * @param root the directory the jar paths of the index are relative to
+     * @param index
+     * @param parent
+     */
+    public FastJarClassLoader(Path root, FastJarIndex index, ClassLoader parent) {
+        super(parent);
+        this.root = root;
+        this.index = index;
+        int jarCount = index.getJars().size();
+        this.jarFiles = new JarFile[jarCount];
+        this.jarUrls = new String[jarCount];
+        this.multiRelease = new Boolean[jarCount];
+        this.protectionDomains = new ProtectionDomain[jarCount];
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        String resourceName = name.replace('.', '/') + ".class";
+        int[] jars = index.getJars(resourceName);
+        if (jars != null) {
+            try {
+                for (int jar : jars) {
+                    JarFile jarFile = getJarFile(jar);
+                    ZipEntry entry = jarFile.getEntry(resourceName);
+                    if (entry != null) {
+                        byte[] data = read(jarFile, entry);
+                        definePackage(name, jar, jarFile);
+                        return defineClass(name, data, 0, data.length, getProtectionDomain(jar));
+                    }
+                }
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+        throw new ClassNotFoundException(name);
+    }
+
+    @Override
+    protected URL findResource(String name) {
+        int[] jars = index.getJars(name);
+        if (jars != null) {
+            try {
+                for (int jar : jars) {
+                    if (getJarFile(jar).getEntry(name) != null) {
+                        return getResourceUrl(jar, name);
+                    }
+                }
+            } catch (IOException e) {
+                // Not found
+            }
+        }
+        return null;
+    }
+
+    @Override
+    protected Enumeration<URL> findResources(String name) throws IOException {
+        int[] jars = index.getJars(name);
+        if (jars == null) {
+            return Collections.emptyEnumeration();
+        }
+        List<URL> resources = new ArrayList<>(jars.length);
+        for (int jar : jars) {
+            if (getJarFile(jar).getEntry(name) != null) {
+                resources.add(getResourceUrl(jar, name));
+            }
+        }
+        return Collections.enumeration(resources);
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (int i = 0; i < jarFiles.length; i++) {
+            if (jarFiles[i] != null) {
+                jarFiles[i].close();
+                jarFiles[i] = null;
+            }
+        }
+    }
+
+    private synchronized JarFile getJarFile(int jar) throws IOException {
+        JarFile jarFile = jarFiles[jar];
+        if (jarFile == null) {
+            jarFile = openJarFile(root.resolve(index.getJars().get(jar)).toFile());
+            jarFiles[jar] = jarFile;
+        }
+        return jarFile;
+    }
+
+    private static JarFile openJarFile(File file) throws IOException {
+        if (MULTI_RELEASE_JAR_FILE == null) {
+            return new JarFile(file);
+        }
+        try {
+            return MULTI_RELEASE_JAR_FILE.newInstance(file, true, ZipFile.OPEN_READ, RUNTIME_VERSION);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException("Unable to open " + file, e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IOException("Unable to open " + file, e);
+        }
+    }
+
+    private URL getResourceUrl(int jar, String name) throws IOException {
+        String url = getJarUrl(jar) + name;
+        // The versioned entries of a multi-release jar are only used if the URL has the runtime fragment
+        return new URL(isMultiRelease(jar) ? url + "#runtime" : url);
+    }
+
+    private synchronized boolean isMultiRelease(int jar) throws IOException {
+        Boolean value = multiRelease[jar];
+        if (value == null) {
+            Manifest manifest = MULTI_RELEASE_JAR_FILE != null ? getJarFile(jar).getManifest() : null;
+            value = manifest != null && "true".equalsIgnoreCase(manifest.getMainAttributes().getValue("Multi-Release"));
+            multiRelease[jar] = value;
+        }
+        return value;
+    }
+
+    private synchronized String getJarUrl(int jar) throws MalformedURLException {
+        String url = jarUrls[jar];
+        if (url == null) {
+            url = "jar:" + root.resolve(index.getJars().get(jar)).toUri().toURL() + "!/";
+            jarUrls[jar] = url;
+        }
+        return url;
+    }
+
+    private synchronized ProtectionDomain getProtectionDomain(int jar) throws MalformedURLException {
+        ProtectionDomain protectionDomain = protectionDomains[jar];
+        if (protectionDomain == null) {
+            URL url = root.resolve(index.getJars().get(jar)).toUri().toURL();
+            protectionDomain = new ProtectionDomain(new CodeSource(url, (Certificate[]) null), null, this, null);
+            protectionDomains[jar] = protectionDomain;
+        }
+        return protectionDomain;
+    }
+
+    @SuppressWarnings("deprecation")
+    private void definePackage(String className, int jar, JarFile jarFile) throws IOException {
+        int idx = className.lastIndexOf('.');
+        if (idx == -1) {
+            return;
+        }
+        String packageName = className.substring(0, idx);
+        if (getPackage(packageName) != null) {
+            return;
+        }
+        Manifest manifest = jarFile.getManifest();
+        try {
+            if (manifest == null) {
+                definePackage(packageName, null, null, null, null, null, null, null);
+                return;
+            }
+            // The attributes of the package entry take precedence over the main attributes
+            Attributes packageAttributes = manifest.getAttributes(packageName.replace('.', '/') + "/");
+            Attributes mainAttributes = manifest.getMainAttributes();
+            String sealed = getAttribute(Attributes.Name.SEALED, packageAttributes, mainAttributes);
+            definePackage(packageName,
+                    getAttribute(Attributes.Name.SPECIFICATION_TITLE, packageAttributes, mainAttributes),
+                    getAttribute(Attributes.Name.SPECIFICATION_VERSION, packageAttributes, mainAttributes),
+                    getAttribute(Attributes.Name.SPECIFICATION_VENDOR, packageAttributes, mainAttributes),
+                    getAttribute(Attributes.Name.IMPLEMENTATION_TITLE, packageAttributes, mainAttributes),
+                    getAttribute(Attributes.Name.IMPLEMENTATION_VERSION, packageAttributes, mainAttributes),
+                    getAttribute(Attributes.Name.IMPLEMENTATION_VENDOR, packageAttributes, mainAttributes),
+                    "true".equalsIgnoreCase(sealed) ? root.resolve(index.getJars().get(jar)).toUri().toURL() : null);
+        } catch (IllegalArgumentException ignored) {
+            // Defined concurrently
+        }
+    }
+
+    private static String getAttribute(Attributes.Name name, Attributes packageAttributes, Attributes mainAttributes) {
+        String value = packageAttributes != null ? packageAttributes.getValue(name) : null;
+        return value != null ? value : mainAttributes.getValue(name);
+    }
+
+    private static byte[] read(ZipFile zipFile, ZipEntry entry) throws IOException {
+        try (InputStream in = zipFile.getInputStream(entry)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(entry.getSize() > 0 ? (int) entry.getSize() : 4096);
+            byte[] buffer = new byte[4096];
+            int r;
+            while ((r = in.read(buffer)) > 0) {
+                out.write(buffer, 0, r);
+            }
+            return out.toByteArray();
+        }
+    }
+
+}
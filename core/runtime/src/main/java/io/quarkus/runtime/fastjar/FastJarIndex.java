@@ -0,0 +1,108 @@
+package io.quarkus.runtime.fastjar;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The index of a fast-jar application, created at build time.
+ * <p>
+ * It contains the jars of the application and, for each directory, the jars that contain an entry in this directory. A
+ * class or a resource is only looked up in the jars that contain its directory, in the order of the class path.
+ */
+public final class FastJarIndex {
+
+    /**
+     * The location of the index in the runner jar.
+     */
+    public static final String INDEX_FILE = "META-INF/quarkus-application.idx";
+
+    private static final int VERSION = 1;
+
+    private final String mainClass;
+    private final List<String> jars;
+    private final Map<String, int[]> directories;
+
+    /**
+     *
+     * @param mainClass the main class of the application
+     * @param jars the paths of the jars, relative to the directory of the runner jar and separated by {@code /}
+     * @param directories the directory -> the indexes of the jars that contain an entry in the directory
+     */
+    public FastJarIndex(String mainClass, List<String> jars, Map<String, int[]> directories) {
+        this.mainClass = mainClass;
+        this.jars = Collections.unmodifiableList(new ArrayList<>(jars));
+        this.directories = directories;
+    }
+
+    public String getMainClass() {
+        return mainClass;
+    }
+
+    public List<String> getJars() {
+        return jars;
+    }
+
+    /**
+     *
+     * @param entryName the name of a class file or a resource, e.g. {@code org/acme/Foo.class}
+     * @return the indexes of the jars that contain an entry in the directory of the given entry, or {@code null}
+     */
+    public int[] getJars(String entryName) {
+        int idx = entryName.lastIndexOf('/');
+        return directories.get(idx == -1 ? "" : entryName.substring(0, idx));
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(VERSION);
+        data.writeUTF(mainClass);
+        data.writeInt(jars.size());
+        for (String jar : jars) {
+            data.writeUTF(jar);
+        }
+        data.writeInt(directories.size());
+        for (Map.Entry<String, int[]> entry : directories.entrySet()) {
+            data.writeUTF(entry.getKey());
+            data.writeInt(entry.getValue().length);
+            for (int jar : entry.getValue()) {
+                data.writeInt(jar);
+            }
+        }
+        data.flush();
+    }
+
+    public static FastJarIndex read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        int version = data.readInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported fast-jar index version " + version);
+        }
+        String mainClass = data.readUTF();
+        int jarCount = data.readInt();
+        List<String> jars = new ArrayList<>(jarCount);
+        for (int i = 0; i < jarCount; i++) {
+            jars.add(data.readUTF());
+        }
+        int directoryCount = data.readInt();
+        Map<String, int[]> directories = new HashMap<>((int) (directoryCount / 0.75f) + 1);
+        for (int i = 0; i < directoryCount; i++) {
+            String directory = data.readUTF();
+            int[] directoryJars = new int[data.readInt()];
+            for (int j = 0; j < directoryJars.length; j++) {
+                directoryJars[j] = data.readInt();
+            }
+            directories.put(directory, directoryJars);
+        }
+        return new FastJarIndex(mainClass, jars, directories);
+    }
+
+}
@@ -0,0 +1,42 @@
+package io.quarkus.runtime.fastjar;
+
+import java.io.InputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The main class of the runner jar of a fast-jar application. It creates the {@link FastJarClassLoader} from the index in the
+ * runner jar and invokes the main class of the application.
+ * <p>
+ * This class, {@link FastJarClassLoader} and {@link FastJarIndex} are copied into the runner jar and must not depend on
+ * anything but the JDK.
+ */
+public final class FastJarMain {
+
+    private FastJarMain() {
+    }
+
+    public static void main(String... args) throws Throwable {
+        Path runnerJar = Paths.get(FastJarMain.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        ClassLoader parent = FastJarMain.class.getClassLoader();
+        FastJarIndex index;
+        try (InputStream in = parent.getResourceAsStream(FastJarIndex.INDEX_FILE)) {
+            if (in == null) {
+                throw new IllegalStateException("The application index " + FastJarIndex.INDEX_FILE + " was not found in "
+                        + runnerJar);
+            }
+            index = FastJarIndex.read(in);
+        }
+        FastJarClassLoader classLoader = new FastJarClassLoader(runnerJar.getParent(), index, parent);
+        Thread.currentThread().setContextClassLoader(classLoader);
+        Method main = classLoader.loadClass(index.getMainClass()).getMethod("main", String[].class);
+        try {
+            main.invoke(null, (Object) args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+}
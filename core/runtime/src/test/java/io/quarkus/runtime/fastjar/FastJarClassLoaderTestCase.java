@@ -0,0 +1,141 @@
+package io.quarkus.runtime.fastjar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FastJarClassLoaderTestCase {
+
+    private static final String HELLO = Hello.class.getName().replace('.', '/') + ".class";
+
+    @TempDir
+    Path root;
+
+    @Test
+    public void testLookup() throws Exception {
+        byte[] helloClass;
+        try (InputStream in = FastJarClassLoaderTestCase.class.getClassLoader().getResourceAsStream(HELLO)) {
+            helloClass = read(in);
+        }
+        Map<String, byte[]> app = new HashMap<>();
+        app.put(HELLO, helloClass);
+        app.put("META-INF/services/foo", "app".getBytes(StandardCharsets.UTF_8));
+        writeJar(root.resolve("app.jar"), app);
+        Map<String, byte[]> lib = new HashMap<>();
+        lib.put("META-INF/services/foo", "lib".getBytes(StandardCharsets.UTF_8));
+        lib.put("org/acme/lib.txt", "lib".getBytes(StandardCharsets.UTF_8));
+        writeJar(root.resolve("lib.jar"), lib);
+
+        String helloPackage = HELLO.substring(0, HELLO.lastIndexOf('/'));
+        Map<String, int[]> directories = new HashMap<>();
+        directories.put(helloPackage, new int[] { 0 });
+        directories.put("META-INF/services", new int[] { 0, 1 });
+        directories.put("org/acme", new int[] { 1 });
+        FastJarIndex index = new FastJarIndex(Hello.class.getName(), Arrays.asList("app.jar", "lib.jar"), directories);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        index.write(out);
+        index = FastJarIndex.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(Hello.class.getName(), index.getMainClass());
+        assertArrayEquals(new int[] { 0, 1 }, index.getJars("META-INF/services/foo"));
+
+        // The parent does not see the test classes
+        try (FastJarClassLoader classLoader = new FastJarClassLoader(root, index,
+                ClassLoader.getSystemClassLoader().getParent())) {
+            Class<?> hello = classLoader.loadClass(Hello.class.getName());
+            assertNotSame(Hello.class, hello);
+            assertEquals(classLoader, hello.getClassLoader());
+            assertNotNull(hello.getPackage());
+            assertThrows(ClassNotFoundException.class, () -> classLoader.loadClass("org.acme.Missing"));
+
+            URL libTxt = classLoader.getResource("org/acme/lib.txt");
+            assertNotNull(libTxt);
+            try (InputStream in = libTxt.openStream()) {
+                assertEquals("lib", new String(read(in), StandardCharsets.UTF_8));
+            }
+            assertNull(classLoader.getResource("org/acme/missing.txt"));
+            assertNull(classLoader.getResource("missing/lib.txt"));
+            assertEquals(2, Collections.list(classLoader.getResources("META-INF/services/foo")).size());
+        }
+    }
+
+    @Test
+    public void testMultiReleaseJar() throws Exception {
+        byte[] helloClass;
+        try (InputStream in = FastJarClassLoaderTestCase.class.getClassLoader().getResourceAsStream(HELLO)) {
+            helloClass = read(in);
+        }
+        Map<String, byte[]> app = new HashMap<>();
+        app.put("META-INF/MANIFEST.MF", ("Manifest-Version: 1.0\r\nMulti-Release: true\r\n"
+                + "Implementation-Version: 1.0\r\n\r\n").getBytes(StandardCharsets.UTF_8));
+        app.put(HELLO, helloClass);
+        app.put("org/acme/version.txt", "base".getBytes(StandardCharsets.UTF_8));
+        app.put("META-INF/versions/9/org/acme/version.txt", "9".getBytes(StandardCharsets.UTF_8));
+        writeJar(root.resolve("app.jar"), app);
+
+        Map<String, int[]> directories = new HashMap<>();
+        directories.put(HELLO.substring(0, HELLO.lastIndexOf('/')), new int[] { 0 });
+        directories.put("org/acme", new int[] { 0 });
+        FastJarIndex index = new FastJarIndex(Hello.class.getName(), Collections.singletonList("app.jar"), directories);
+
+        boolean java8 = System.getProperty("java.specification.version").startsWith("1.");
+        try (FastJarClassLoader classLoader = new FastJarClassLoader(root, index,
+                ClassLoader.getSystemClassLoader().getParent())) {
+            try (InputStream in = classLoader.getResourceAsStream("org/acme/version.txt")) {
+                assertEquals(java8 ? "base" : "9", new String(read(in), StandardCharsets.UTF_8));
+            }
+            // The package is defined from the manifest
+            Class<?> hello = classLoader.loadClass(Hello.class.getName());
+            assertEquals("1.0", hello.getPackage().getImplementationVersion());
+        }
+    }
+
+    private static void writeJar(Path path, Map<String, byte[]> entries) throws IOException {
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(path))) {
+            for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue());
+                out.closeEntry();
+            }
+        }
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1024];
+        int r;
+        while ((r = in.read(buffer)) > 0) {
+            out.write(buffer, 0, r);
+        }
+        return out.toByteArray();
+    }
+
+    public static class Hello {
+
+        @Override
+        public String toString() {
+            return "hello";
+        }
+    }
+
+}
@@ -4,18 +4,25 @@ import static io.quarkus.qute.api.VariantTemplate.SELECTED_VARIANT;
 import static io.quarkus.qute.api.VariantTemplate.VARIANTS;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnsupportedCharsetException;
 import java.util.List;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
 import javax.ws.rs.container.ContainerResponseFilter;
 import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.Provider;
 
+import org.jboss.logging.Logger;
 import org.jboss.resteasy.core.interception.jaxrs.SuspendableContainerResponseContext;
 
+import io.quarkus.qute.CompletedStage;
+import io.quarkus.qute.ResultNode;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.qute.Variant;
 import io.quarkus.qute.api.VariantTemplate;
@@ -23,14 +30,13 @@ import io.quarkus.qute.api.VariantTemplate;
 @Provider
 public class TemplateResponseFilter implements ContainerResponseFilter {
 
+    private static final Logger LOGGER = Logger.getLogger(TemplateResponseFilter.class);
+
     @Override
     public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
             throws IOException {
         Object entity = responseContext.getEntity();
         if (entity instanceof TemplateInstance) {
-            SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
-            ctx.suspend();
-
             MediaType mediaType;
             TemplateInstance rendering = (TemplateInstance) entity;
 
@@ -54,27 +60,59 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
                 mediaType = null;
             }
 
+            Charset charset = getCharset(mediaType);
+            if (mediaType != null && mediaType.getParameters().containsKey(MediaType.CHARSET_PARAMETER)) {
+                // make sure the content type matches the charset actually used
+                mediaType = mediaType.withCharset(charset.name());
+            }
+            MediaType responseType = mediaType;
+
+            // The values are resolved before the response is committed, the output is streamed
+            CompletionStage<ResultNode> result;
             try {
-                rendering.renderAsync()
-                        .whenComplete((r, t) -> {
-                            if (t == null) {
-                                Response resp = Response.ok(r, mediaType).build();
-                                // make sure we avoid setting a null media type because that causes
-                                // an NPE further down
-                                if (resp.getMediaType() != null) {
-                                    ctx.setEntity(resp.getEntity(), null, resp.getMediaType());
-                                } else {
-                                    ctx.setEntity(resp.getEntity());
-                                }
-                                ctx.setStatus(resp.getStatus());
-                                ctx.resume();
-                            } else {
-                                ctx.resume(t);
-                            }
-                        });
+                result = rendering.resolve();
             } catch (Throwable t) {
-                ctx.resume(t);
+                result = CompletedStage.failure(t);
+            }
+            if (CompletedStage.isCompleted(result)) {
+                // Sync fast path - there is no need to suspend the response
+                setEntity(responseContext, new TemplateStreamingOutput(CompletedStage.getNow(result), charset), responseType);
+            } else {
+                SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
+                ctx.suspend();
+                result.whenComplete((r, t) -> {
+                    if (t == null) {
+                        setEntity(ctx, new TemplateStreamingOutput(r, charset), responseType);
+                        ctx.resume();
+                    } else {
+                        ctx.resume(t);
+                    }
+                });
             }
         }
     }
+
+    private static void setEntity(ContainerResponseContext responseContext, TemplateStreamingOutput output,
+            MediaType mediaType) {
+        // make sure we avoid setting a null media type because that causes
+        // an NPE further down
+        if (mediaType != null) {
+            responseContext.setEntity(output, null, mediaType);
+        } else {
+            responseContext.setEntity(output);
+        }
+    }
+
+    private static Charset getCharset(MediaType mediaType) {
+        String charset = mediaType != null ? mediaType.getParameters().get(MediaType.CHARSET_PARAMETER) : null;
+        if (charset != null) {
+            try {
+                return Charset.forName(charset);
+            } catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+                LOGGER.debugf("Unsupported charset %s, UTF-8 is used instead", charset);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
 }
@@ -0,0 +1,62 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.StreamingOutput;
+
+import io.quarkus.qute.OutputStreamConsumer;
+import io.quarkus.qute.ResultNode;
+
+/**
+ * Writes the resolved result tree of a template directly into the response output stream.
+ * <p>
+ * All the values are resolved before the response is committed, so a resolution failure results in an error response
+ * instead of a truncated one. The chunks are encoded incrementally while the result tree is processed, i.e. the output is
+ * never materialized in memory. If UTF-8 is used then the pre-encoded static text of the template is copied as is.
+ */
+class TemplateStreamingOutput implements StreamingOutput {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final ResultNode result;
+    private final Charset charset;
+
+    TemplateStreamingOutput(ResultNode result, Charset charset) {
+        this.result = result;
+        this.charset = charset;
+    }
+
+    @Override
+    public void write(OutputStream output) throws IOException, WebApplicationException {
+        try {
+            if (StandardCharsets.UTF_8.equals(charset)) {
+                // The static text of the template is already encoded
+                OutputStream out = new BufferedOutputStream(output, BUFFER_SIZE);
+                result.process(new OutputStreamConsumer(out));
+                out.flush();
+            } else {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(output, charset), BUFFER_SIZE);
+                result.process(chunk -> {
+                    try {
+                        writer.write(chunk);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                writer.flush();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+}
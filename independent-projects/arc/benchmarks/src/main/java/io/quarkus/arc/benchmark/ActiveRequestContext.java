@@ -0,0 +1,28 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.ManagedContext;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Keeps the request context active on each benchmark thread.
+ */
+@State(Scope.Thread)
+public class ActiveRequestContext {
+
+    private ManagedContext requestContext;
+
+    @Setup
+    public void activate(BenchmarkContainer container) {
+        requestContext = container.container().requestContext();
+        requestContext.activate();
+    }
+
+    @TearDown
+    public void terminate() {
+        requestContext.terminate();
+    }
+
+}
@@ -0,0 +1,98 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.Components;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.InjectableBean;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.spi.CreationalContext;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Registers hand-written beans so that the benchmarks can use a real container without running the bean processor.
+ */
+public class BenchmarkComponentsProvider implements ComponentsProvider {
+
+    /**
+     * The number of application scoped beans with an index assigned; the same number of beans without an index is
+     * registered as well.
+     */
+    public static final int SHARED_BEANS = 100;
+
+    static final String INDEXED_PREFIX = "benchmark_indexed_";
+    static final String MAPPED_PREFIX = "benchmark_mapped_";
+
+    @Override
+    public Components getComponents() {
+        List<InjectableBean<?>> beans = new ArrayList<>();
+        for (int i = 0; i < SHARED_BEANS; i++) {
+            beans.add(new SharedBean(INDEXED_PREFIX + i, i));
+            beans.add(new SharedBean(MAPPED_PREFIX + i, -1));
+        }
+        return new Components(beans, Collections.emptyList(), Collections.emptyList(), Collections.emptyMap());
+    }
+
+    /**
+     * An application scoped bean; the creation of an instance consumes some CPU time to simulate the initialization.
+     */
+    public static class SharedBean implements InjectableBean<Object> {
+
+        private static final Set<Type> TYPES = Collections.singleton(SharedBean.class);
+
+        private final String identifier;
+        private final int contextIndex;
+
+        SharedBean(String identifier, int contextIndex) {
+            this.identifier = identifier;
+            this.contextIndex = contextIndex;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return identifier;
+        }
+
+        @Override
+        public Class<? extends Annotation> getScope() {
+            return ApplicationScoped.class;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return TYPES;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return SharedBean.class;
+        }
+
+        @Override
+        public int getContextIndex() {
+            return contextIndex;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            Blackhole.consumeCPU(1000);
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+
+        @Override
+        public String toString() {
+            return identifier;
+        }
+
+    }
+
+}
@@ -0,0 +1,143 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.benchmark.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmark.beans.Counted;
+import io.quarkus.arc.benchmark.beans.CountingInterceptor;
+import io.quarkus.arc.benchmark.beans.DependentService;
+import io.quarkus.arc.benchmark.beans.EventProducer;
+import io.quarkus.arc.benchmark.beans.InterceptedService;
+import io.quarkus.arc.benchmark.beans.Ping;
+import io.quarkus.arc.benchmark.beans.PingObserver;
+import io.quarkus.arc.benchmark.beans.Pong;
+import io.quarkus.arc.benchmark.beans.RequestScopedService;
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Runs the bean processor for all the beans from the {@code io.quarkus.arc.benchmark.beans} package and initializes the
+ * container with the generated components, i.e. the benchmarks measure the same client proxies, subclasses and beans as a
+ * real application.
+ * <p>
+ * The generated classes are defined by a separate class loader and therefore do not belong to the runtime package of the
+ * bean classes. The bean classes must be public and must only declare public injected fields, interceptor methods and
+ * observer methods.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContainer {
+
+    private static final String COMPONENTS_PROVIDER_SERVICE = "META-INF/services/" + ComponentsProvider.class.getName();
+
+    private static final Class<?>[] BEAN_CLASSES = { ApplicationScopedService.class, RequestScopedService.class,
+            DependentService.class, InterceptedService.class, Counted.class, CountingInterceptor.class,
+            EventProducer.class, PingObserver.class, Ping.class, Pong.class };
+
+    private ClassLoader oldTccl;
+
+    @Setup
+    public void start() throws IOException {
+        Arc.shutdown();
+        Map<String, byte[]> generatedClasses = new HashMap<>();
+        File componentsProvider = File.createTempFile("arc-benchmark", ".provider");
+        componentsProvider.deleteOnExit();
+        BeanProcessor.builder()
+                .setName("Benchmark")
+                .setIndex(BeanArchives.buildBeanArchiveIndex(index(BEAN_CLASSES)))
+                .setOutput(new ResourceOutput() {
+
+                    @Override
+                    public void writeResource(Resource resource) throws IOException {
+                        switch (resource.getType()) {
+                            case JAVA_CLASS:
+                                generatedClasses.put(resource.getFullyQualifiedName(), resource.getData());
+                                break;
+                            case SERVICE_PROVIDER:
+                                if (resource.getName().endsWith(ComponentsProvider.class.getName())) {
+                                    Files.write(componentsProvider.toPath(), resource.getData());
+                                }
+                                break;
+                            default:
+                                throw new IllegalArgumentException();
+                        }
+                    }
+                })
+                .build()
+                .process();
+
+        oldTccl = Thread.currentThread().getContextClassLoader();
+        Thread.currentThread().setContextClassLoader(
+                new GeneratedClassLoader(oldTccl, generatedClasses, componentsProvider.toURI().toURL()));
+        Arc.initialize();
+    }
+
+    @TearDown
+    public void stop() {
+        Arc.shutdown();
+        Thread.currentThread().setContextClassLoader(oldTccl);
+    }
+
+    public ArcContainer container() {
+        return Arc.container();
+    }
+
+    private static Index index(Class<?>... classes) throws IOException {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream stream = BenchmarkContainer.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            }
+        }
+        return indexer.complete();
+    }
+
+    private static class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+        private final URL componentsProvider;
+
+        GeneratedClassLoader(ClassLoader parent, Map<String, byte[]> classes, URL componentsProvider) {
+            super(parent);
+            this.classes = classes;
+            this.componentsProvider = componentsProvider;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+
+        @Override
+        public Enumeration<URL> getResources(String name) throws IOException {
+            if (COMPONENTS_PROVIDER_SERVICE.equals(name)) {
+                // Ignore other components providers available on the class path
+                return Collections.enumeration(Collections.singleton(componentsProvider));
+            }
+            return super.getResources(name);
+        }
+
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.benchmark.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmark.beans.DependentService;
+import io.quarkus.arc.benchmark.beans.RequestScopedService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the invocation of a method through a generated client proxy. The invocation of a dependent bean, i.e. without a
+ * client proxy, is the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    private ApplicationScopedService applicationScoped;
+    private RequestScopedService requestScoped;
+    private DependentService dependent;
+
+    @Setup
+    public void setup(BenchmarkContainer container) {
+        applicationScoped = container.container().instance(ApplicationScopedService.class).get();
+        requestScoped = container.container().instance(RequestScopedService.class).get();
+        dependent = container.container().instance(DependentService.class).get();
+    }
+
+    @Benchmark
+    public String applicationScoped() {
+        return applicationScoped.ping("foo");
+    }
+
+    @Benchmark
+    public String requestScoped(ActiveRequestContext requestContext) {
+        return requestScoped.ping("foo");
+    }
+
+    @Benchmark
+    public String dependent() {
+        return dependent.ping("foo");
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.benchmark.beans.EventProducer;
+import io.quarkus.arc.benchmark.beans.Ping;
+import io.quarkus.arc.benchmark.beans.Pong;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the synchronous delivery of an event fired via an injected {@code Event}. If the request context is not active
+ * it's activated for the notification of observers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+
+    private EventProducer producer;
+    private Ping ping;
+    private Pong pong;
+
+    @Setup
+    public void setup(BenchmarkContainer container) {
+        producer = container.container().instance(EventProducer.class).get();
+        ping = new Ping("foo");
+        pong = new Pong();
+    }
+
+    @Benchmark
+    public void fire() {
+        producer.ping.fire(ping);
+    }
+
+    @Benchmark
+    public void fireRequestContextActive(ActiveRequestContext requestContext) {
+        producer.ping.fire(ping);
+    }
+
+    @Benchmark
+    public void fireNoObservers() {
+        producer.pong.fire(pong);
+    }
+
+}
@@ -0,0 +1,47 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.benchmark.beans.InterceptedService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the invocation of an intercepted method through the client proxy and the generated subclass, i.e. unlike
+ * {@link InterceptionBenchmark} it includes the overhead of the generated code.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation per intercepted call ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptedInvocationBenchmark {
+
+    private InterceptedService service;
+
+    @Setup
+    public void setup(BenchmarkContainer container) {
+        service = container.container().instance(InterceptedService.class).get();
+    }
+
+    @Benchmark
+    public String intercepted() {
+        return service.ping("foo");
+    }
+
+    @Benchmark
+    public String notIntercepted() {
+        return service.notIntercepted("foo");
+    }
+
+}
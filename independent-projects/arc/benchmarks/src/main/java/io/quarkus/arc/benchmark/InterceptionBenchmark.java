@@ -0,0 +1,149 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.InjectableInterceptor;
+import io.quarkus.arc.impl.InterceptorInvocation;
+import io.quarkus.arc.impl.InvocationContexts;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.interceptor.InvocationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the execution of an around invoke interceptor chain.
+ * <p>
+ * Run with {@code -prof gc} to see the allocation per intercepted call ({@code gc.alloc.rate.norm}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptionBenchmark {
+
+    @Param({ "1", "3", "5" })
+    public int interceptors;
+
+    private Object target;
+    private Method method;
+    private Object[] args;
+    private Function<InvocationContext, Object> forward;
+    private List<InterceptorInvocation> chain;
+    private List<InterceptorInvocation> contextDataChain;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        target = new Service();
+        method = Service.class.getMethod("ping", String.class);
+        args = new Object[] { "foo" };
+        forward = ctx -> ((Service) ctx.getTarget()).ping((String) ctx.getParameters()[0]);
+        chain = new ArrayList<>();
+        contextDataChain = new ArrayList<>();
+        for (int i = 0; i < interceptors; i++) {
+            chain.add(InterceptorInvocation.aroundInvoke(new PassThroughInterceptor(i, false), null));
+            contextDataChain.add(InterceptorInvocation.aroundInvoke(new PassThroughInterceptor(i, true), null));
+        }
+    }
+
+    @Benchmark
+    public Object intercept() throws Exception {
+        return InvocationContexts.performAroundInvoke(target, method, forward, args, chain, Collections.emptySet());
+    }
+
+    @Benchmark
+    public Object interceptWithContextData() throws Exception {
+        return InvocationContexts.performAroundInvoke(target, method, forward, args, contextDataChain,
+                Collections.emptySet());
+    }
+
+    public static class Service {
+
+        public String ping(String value) {
+            return value;
+        }
+
+    }
+
+    /**
+     * An interceptor bean that simply proceeds; optionally it also accesses the context data.
+     */
+    static class PassThroughInterceptor implements InjectableInterceptor<Object> {
+
+        private final int priority;
+        private final boolean useContextData;
+
+        PassThroughInterceptor(int priority, boolean useContextData) {
+            this.priority = priority;
+            this.useContextData = useContextData;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "PassThroughInterceptor" + priority;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.singleton(Object.class);
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return null;
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public boolean intercepts(InterceptionType type) {
+            return InterceptionType.AROUND_INVOKE == type;
+        }
+
+        @Override
+        public Object intercept(InterceptionType type, Object instance, InvocationContext ctx) throws Exception {
+            if (useContextData) {
+                ctx.getContextData().put(getIdentifier(), Boolean.TRUE);
+            }
+            return ctx.proceed();
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return PassThroughInterceptor.class;
+        }
+
+    }
+
+}
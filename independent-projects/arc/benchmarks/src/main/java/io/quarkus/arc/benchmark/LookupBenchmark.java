@@ -0,0 +1,56 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.benchmark.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmark.beans.DependentService;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.inject.Any;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the programmatic lookup via {@link ArcContainer#instance(Class, java.lang.annotation.Annotation...)}, i.e. the
+ * cached resolution and the creation of an instance handle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LookupBenchmark {
+
+    private ArcContainer arc;
+
+    @Setup
+    public void setup(BenchmarkContainer container) {
+        arc = container.container();
+    }
+
+    @Benchmark
+    public ApplicationScopedService applicationScoped() {
+        return arc.instance(ApplicationScopedService.class).get();
+    }
+
+    @Benchmark
+    public ApplicationScopedService applicationScopedQualified() {
+        return arc.instance(ApplicationScopedService.class, Any.Literal.INSTANCE).get();
+    }
+
+    @Benchmark
+    public DependentService dependent() {
+        try (InstanceHandle<DependentService> handle = arc.instance(DependentService.class)) {
+            return handle.get();
+        }
+    }
+
+}
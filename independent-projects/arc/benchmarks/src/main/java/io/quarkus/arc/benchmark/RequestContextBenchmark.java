@@ -0,0 +1,54 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmark.beans.RequestScopedService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the lifecycle of the request context, i.e. the overhead of every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private ManagedContext requestContext;
+    private RequestScopedService service;
+
+    @Setup
+    public void setup(BenchmarkContainer container) {
+        requestContext = container.container().requestContext();
+        service = container.container().instance(RequestScopedService.class).get();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public String activateUseTerminate() {
+        requestContext.activate();
+        try {
+            // Creates and destroys a request scoped instance
+            return service.ping("foo");
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+}
@@ -0,0 +1,113 @@
+package io.quarkus.arc.benchmark;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.ApplicationScoped;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the application context lookup of beans with an index assigned at build time and beans without an index.
+ * <p>
+ * The {@code burst*} benchmarks measure the time needed by concurrent threads to obtain all the beans right after the
+ * context was destroyed, i.e. the instances are created during the measurement. The {@code get*} benchmarks measure the
+ * lookup of existing instances.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(8)
+public class SharedContextBenchmark {
+
+    private ArcContainer container;
+    private InjectableContext context;
+    private List<InjectableBean<Object>> indexed;
+    private List<InjectableBean<Object>> mapped;
+
+    @Setup
+    public void setup() {
+        container = Arc.initialize();
+        context = container.getActiveContext(ApplicationScoped.class);
+        indexed = new ArrayList<>();
+        mapped = new ArrayList<>();
+        for (int i = 0; i < BenchmarkComponentsProvider.SHARED_BEANS; i++) {
+            indexed.add(container.bean(BenchmarkComponentsProvider.INDEXED_PREFIX + i));
+            mapped.add(container.bean(BenchmarkComponentsProvider.MAPPED_PREFIX + i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @State(Scope.Benchmark)
+    public static class ColdContext {
+
+        @Setup(Level.Iteration)
+        public void destroyInstances(SharedContextBenchmark benchmark) {
+            benchmark.context.destroy();
+        }
+
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void getIndexed(Blackhole blackhole) {
+        getAll(indexed, blackhole);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public void getMapped(Blackhole blackhole) {
+        getAll(mapped, blackhole);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    public void burstIndexed(ColdContext cold, Blackhole blackhole) {
+        getAll(indexed, blackhole);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 20)
+    @Measurement(iterations = 50)
+    public void burstMapped(ColdContext cold, Blackhole blackhole) {
+        getAll(mapped, blackhole);
+    }
+
+    private void getAll(List<InjectableBean<Object>> beans, Blackhole blackhole) {
+        for (InjectableBean<Object> bean : beans) {
+            blackhole.consume(context.get(bean, new CreationalContextImpl<>(bean)));
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package io.quarkus.arc.benchmark.beans;
+
+import javax.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ApplicationScopedService {
+
+    public String ping(String value) {
+        return value;
+    }
+
+}
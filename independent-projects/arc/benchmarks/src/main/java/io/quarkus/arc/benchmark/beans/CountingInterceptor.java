@@ -0,0 +1,22 @@
+package io.quarkus.arc.benchmark.beans;
+
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@Counted
+@Priority(1)
+@Interceptor
+public class CountingInterceptor {
+
+    public static final LongAdder COUNTER = new LongAdder();
+
+    @AroundInvoke
+    public Object count(InvocationContext ctx) throws Exception {
+        COUNTER.increment();
+        return ctx.proceed();
+    }
+
+}
@@ -0,0 +1,12 @@
+package io.quarkus.arc.benchmark.beans;
+
+import javax.enterprise.context.Dependent;
+
+@Dependent
+public class DependentService {
+
+    public String ping(String value) {
+        return value;
+    }
+
+}
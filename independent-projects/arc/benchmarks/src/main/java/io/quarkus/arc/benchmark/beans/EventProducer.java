@@ -0,0 +1,16 @@
+package io.quarkus.arc.benchmark.beans;
+
+import javax.enterprise.event.Event;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+@Singleton
+public class EventProducer {
+
+    @Inject
+    public Event<Ping> ping;
+
+    @Inject
+    public Event<Pong> pong;
+
+}
@@ -0,0 +1,17 @@
+package io.quarkus.arc.benchmark.beans;
+
+import javax.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class InterceptedService {
+
+    @Counted
+    public String ping(String value) {
+        return value;
+    }
+
+    public String notIntercepted(String value) {
+        return value;
+    }
+
+}
@@ -0,0 +1,15 @@
+package io.quarkus.arc.benchmark.beans;
+
+public class Ping {
+
+    private final String value;
+
+    public Ping(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.quarkus.arc.benchmark.beans;
+
+import java.util.concurrent.atomic.LongAdder;
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+
+@Singleton
+public class PingObserver {
+
+    public static final LongAdder COUNTER = new LongAdder();
+
+    public void observe(@Observes Ping ping) {
+        COUNTER.increment();
+    }
+
+}
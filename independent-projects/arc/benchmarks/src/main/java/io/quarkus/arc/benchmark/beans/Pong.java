@@ -0,0 +1,8 @@
+package io.quarkus.arc.benchmark.beans;
+
+/**
+ * An event type without observers.
+ */
+public class Pong {
+
+}
@@ -0,0 +1,12 @@
+package io.quarkus.arc.benchmark.beans;
+
+import javax.enterprise.context.RequestScoped;
+
+@RequestScoped
+public class RequestScopedService {
+
+    public String ping(String value) {
+        return value;
+    }
+
+}
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -306,6 +307,18 @@ public class BeanDeployment {
 
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
 
+        // Assign a dense index to each bean with a built-in normal scope or @Singleton so that the built-in contexts can store
+        // the instances in an array; the indexes are assigned per scope
+        Map<BuiltinScope, Integer> contextIndexes = new EnumMap<>(BuiltinScope.class);
+        for (BeanInfo bean : beans) {
+            BuiltinScope scope = BuiltinScope.from(bean.getScope().getDotName());
+            if (scope != null && scope != BuiltinScope.DEPENDENT) {
+                int contextIndex = contextIndexes.getOrDefault(scope, 0);
+                bean.setContextIndex(contextIndex);
+                contextIndexes.put(scope, contextIndex + 1);
+            }
+        }
+
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
@@ -343,6 +356,10 @@ public class BeanDeployment {
         return interceptors;
     }
 
+    List<InjectionPointInfo> getInjectionPoints() {
+        return Collections.unmodifiableList(injectionPoints);
+    }
+
     public IndexView getIndex() {
         return index;
     }
@@ -223,6 +223,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getContextIndex() >= 0) {
+            implementGetContextIndex(bean, beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -304,6 +307,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getContextIndex() >= 0) {
+            implementGetContextIndex(bean, beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -400,6 +406,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getContextIndex() >= 0) {
+            implementGetContextIndex(bean, beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -481,6 +490,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.getContextIndex() >= 0) {
+            implementGetContextIndex(bean, beanCreator);
+        }
 
         beanCreator.close();
         return classOutput.getResources();
@@ -1546,6 +1558,18 @@ public class BeanGenerator extends AbstractGenerator {
                 .returnValue(isDefaultBean.load(bean.isDefaultBean()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getContextIndex()
+     */
+    protected void implementGetContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getContextIndex = beanCreator.getMethodCreator("getContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getContextIndex.returnValue(getContextIndex.load(bean.getContextIndex()));
+    }
+
     protected void implementGetStereotypes(BeanInfo bean, ClassCreator beanCreator, FieldDescriptor stereotypesField) {
         MethodCreator getStereotypes = beanCreator.getMethodCreator("getStereotypes", Set.class).setModifiers(ACC_PUBLIC);
         getStereotypes.returnValue(getStereotypes.readInstanceField(stereotypesField, getStereotypes.getThis()));
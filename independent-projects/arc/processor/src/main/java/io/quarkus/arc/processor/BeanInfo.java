@@ -81,6 +81,9 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final Map<String, Object> params;
 
+    // Index in the context of a built-in scope except for @Dependent, see BeanDeployment#init()
+    private int contextIndex = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers,
             List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer, Integer alternativePriority,
@@ -212,6 +215,19 @@ public class BeanInfo implements InjectionTargetInfo {
         return scope;
     }
 
+    /**
+     *
+     * @return the index of the bean in the context of its scope or -1 if the bean does not have a built-in scope or is
+     *         {@link javax.enterprise.context.Dependent}
+     */
+    public int getContextIndex() {
+        return contextIndex;
+    }
+
+    void setContextIndex(int contextIndex) {
+        this.contextIndex = contextIndex;
+    }
+
     public Set<Type> getTypes() {
         return types;
     }
@@ -3,12 +3,15 @@ package io.quarkus.arc.processor;
 import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
+import io.quarkus.gizmo.BranchResult;
 import io.quarkus.gizmo.BytecodeCreator;
 import io.quarkus.gizmo.ClassCreator;
 import io.quarkus.gizmo.DescriptorUtils;
@@ -43,6 +46,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String DELEGATE_METHOD_NAME = "arc$delegate";
     static final String GET_CONTEXTUAL_INSTANCE_METHOD_NAME = "arc_contextualInstance";
     static final String GET_BEAN = "arc_bean";
+    static final String HANDLE_FIELD_NAME = "arc$handle";
 
     private final Predicate<DotName> applicationClassPredicate;
 
@@ -87,7 +91,15 @@ public class ClientProxyGenerator extends AbstractGenerator {
                 .setModifiers(ACC_PRIVATE | ACC_FINAL);
 
         createConstructor(clientProxy, beanClassName, superClass, beanField.getFieldDescriptor());
-        implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        if (BuiltinScope.APPLICATION.is(bean.getScope())) {
+            // The application context is always active and the instance is only replaced if destroyed explicitly
+            FieldCreator handleField = clientProxy.getFieldCreator(HANDLE_FIELD_NAME, ContextInstanceHandleImpl.class)
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
+            implementApplicationScopedDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor(),
+                    handleField.getFieldDescriptor());
+        } else {
+            implementDelegate(clientProxy, providerTypeName, beanField.getFieldDescriptor());
+        }
         implementGetContextualInstance(clientProxy, providerTypeName);
         implementGetBean(clientProxy, beanField.getFieldDescriptor());
 
@@ -208,6 +220,34 @@ public class ClientProxyGenerator extends AbstractGenerator {
         creator.returnValue(ret);
     }
 
+    void implementApplicationScopedDelegate(ClassCreator clientProxy, String providerTypeName, FieldDescriptor beanField,
+            FieldDescriptor handleField) {
+        MethodCreator creator = clientProxy.getMethodCreator(DELEGATE_METHOD_NAME, providerTypeName)
+                .setModifiers(Modifier.PRIVATE);
+        // ContextInstanceHandleImpl handle = this.arc$handle;
+        AssignableResultHandle handle = creator.createVariable(ContextInstanceHandleImpl.class);
+        creator.assign(handle, creator.readInstanceField(handleField, creator.getThis()));
+        // if (handle == null || handle.isDestroyed()) {
+        //    handle = ClientProxies.getApplicationScopedHandle(this.bean);
+        //    this.arc$handle = handle;
+        // }
+        BranchResult isNull = creator.ifNull(handle);
+        lookupHandle(isNull.trueBranch(), handle, beanField, handleField);
+        BytecodeCreator notNull = isNull.falseBranch();
+        lookupHandle(notNull.ifNonZero(notNull.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_IS_DESTROYED,
+                handle)).trueBranch(), handle, beanField, handleField);
+        // return handle.get();
+        creator.returnValue(creator.checkCast(creator.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_GET,
+                handle), providerTypeName));
+    }
+
+    private void lookupHandle(BytecodeCreator creator, AssignableResultHandle handle, FieldDescriptor beanField,
+            FieldDescriptor handleField) {
+        creator.assign(handle, creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE,
+                creator.readInstanceField(beanField, creator.getThis())));
+        creator.writeInstanceField(handleField, creator.getThis(), handle);
+    }
+
     void implementGetContextualInstance(ClassCreator clientProxy, String providerTypeName) {
         MethodCreator creator = clientProxy.getMethodCreator(GET_CONTEXTUAL_INSTANCE_METHOD_NAME, Object.class)
                 .setModifiers(Modifier.PUBLIC);
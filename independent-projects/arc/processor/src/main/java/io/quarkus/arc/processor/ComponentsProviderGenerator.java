@@ -9,12 +9,16 @@ import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import java.lang.reflect.Modifier;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -27,8 +31,10 @@ import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type.Kind;
 import org.objectweb.asm.Type;
 
 /**
@@ -41,6 +47,7 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String SETUP_PACKAGE = Arc.class.getPackage().getName() + ".setup";
     static final String ADD_OBSERVERS = "addObservers";
     static final String ADD_BEANS = "addBeans";
+    static final String ADD_OBSERVER_RESOLUTIONS = "addObserverResolutions";
 
     protected final AnnotationLiteralProcessor annotationLiterals;
 
@@ -85,6 +92,12 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         processObservers(componentsProvider, getComponents, beanDeployment, beanIdToBeanHandle, observersHandle,
                 observerToGeneratedName);
 
+        // Observers resolved at build time
+        ResultHandle observerResolutionsHandle = getComponents
+                .newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        processObserverResolutions(componentsProvider, getComponents, classOutput, beanDeployment, observersHandle,
+                observerResolutionsHandle);
+
         // Custom contexts
         ResultHandle contextsHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
         for (Entry<ScopeInfo, Function<MethodCreator, ResultHandle>> entry : beanDeployment.getCustomContexts().entrySet()) {
@@ -112,8 +125,8 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Map.class),
-                beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle);
+                        Map.class, Map.class),
+                beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle, observerResolutionsHandle);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -197,6 +210,72 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         }
     }
 
+    private void processObserverResolutions(ClassCreator componentsProvider, MethodCreator getComponents,
+            ClassOutput classOutput, BeanDeployment beanDeployment, ResultHandle observersHandle,
+            ResultHandle observerResolutionsHandle) {
+        if (beanDeployment.getObservers().isEmpty()) {
+            // No need to precompute anything
+            return;
+        }
+        // Observers are added in the same order as they are registered
+        Map<ObserverInfo, Integer> observerToIndex = new HashMap<>();
+        for (ObserverInfo observer : beanDeployment.getObservers()) {
+            observerToIndex.put(observer, observerToIndex.size());
+        }
+        ObserverResolver resolver = new ObserverResolver(beanDeployment);
+        try (ObserverResolutionAdder adder = new ObserverResolutionAdder(componentsProvider, getComponents, classOutput,
+                annotationLiterals, beanDeployment, observersHandle, observerResolutionsHandle)) {
+            for (Entry<DotName, Set<Set<AnnotationInstance>>> entry : initEvents(beanDeployment).entrySet()) {
+                Map<Set<AnnotationInstance>, List<Integer>> resolutions = new HashMap<>();
+                for (Set<AnnotationInstance> qualifiers : entry.getValue()) {
+                    if (!adder.canLoadQualifiers(qualifiers)) {
+                        continue;
+                    }
+                    Set<AnnotationInstance> eventQualifiers = new HashSet<>(qualifiers);
+                    eventQualifiers.add(BuiltinQualifier.ANY.getInstance());
+                    List<ObserverInfo> resolved = resolver.resolve(entry.getKey(), eventQualifiers);
+                    if (resolved != null) {
+                        resolutions.put(qualifiers, resolved.stream().map(observerToIndex::get).collect(toList()));
+                    }
+                }
+                if (!resolutions.isEmpty()) {
+                    adder.addResolutions(entry.getKey(), resolutions);
+                }
+            }
+        }
+    }
+
+    /**
+     *
+     * @param beanDeployment
+     * @return the event types and sets of qualifiers (except for {@code @Any}) known at build time
+     */
+    private Map<DotName, Set<Set<AnnotationInstance>>> initEvents(BeanDeployment beanDeployment) {
+        Map<DotName, Set<Set<AnnotationInstance>>> events = new HashMap<>();
+        // Lifecycle events fired by the container, e.g. @Initialized(RequestScoped.class) Object
+        Set<Set<AnnotationInstance>> lifecycleEvents = new HashSet<>();
+        for (DotName qualifier : Arrays.asList(DotNames.INITIALIZED, DotNames.BEFORE_DESTROYED, DotNames.DESTROYED)) {
+            for (BuiltinScope scope : Arrays.asList(BuiltinScope.REQUEST, BuiltinScope.APPLICATION)) {
+                lifecycleEvents.add(Collections.singleton(AnnotationInstance.create(qualifier, null,
+                        Collections.singletonList(AnnotationValue.createClassValue("value",
+                                org.jboss.jandex.Type.create(scope.getName(), Kind.CLASS))))));
+            }
+        }
+        events.put(DotNames.OBJECT, lifecycleEvents);
+        // Event<Foo> injection points
+        for (InjectionPointInfo injectionPoint : beanDeployment.getInjectionPoints()) {
+            if (BuiltinBean.EVENT.matches(injectionPoint)
+                    && injectionPoint.getRequiredType().kind() == Kind.PARAMETERIZED_TYPE) {
+                List<org.jboss.jandex.Type> arguments = injectionPoint.getRequiredType().asParameterizedType().arguments();
+                if (arguments.size() == 1 && arguments.get(0).kind() == Kind.CLASS) {
+                    events.computeIfAbsent(arguments.get(0).name(), name -> new HashSet<>())
+                            .add(injectionPoint.getRequiredQualifiers());
+                }
+            }
+        }
+        return events;
+    }
+
     private Map<BeanInfo, List<BeanInfo>> initBeanToInjections(BeanDeployment beanDeployment) {
         Map<BeanInfo, List<BeanInfo>> beanToInjections = new HashMap<>();
         for (BeanInfo bean : beanDeployment.getBeans()) {
@@ -333,6 +412,102 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
     }
 
+    static class ObserverResolutionAdder implements AutoCloseable {
+
+        private static final int GROUP_LIMIT = 30;
+        private int group;
+        private int eventsAdded;
+        private MethodCreator addResolutionsMethod;
+        private final MethodCreator getComponentsMethod;
+        private final ClassCreator componentsProvider;
+        private final ClassOutput classOutput;
+        private final AnnotationLiteralProcessor annotationLiterals;
+        private final BeanDeployment beanDeployment;
+        private final ResultHandle observersHandle;
+        private final ResultHandle observerResolutionsHandle;
+
+        ObserverResolutionAdder(ClassCreator componentsProvider, MethodCreator getComponentsMethod, ClassOutput classOutput,
+                AnnotationLiteralProcessor annotationLiterals, BeanDeployment beanDeployment, ResultHandle observersHandle,
+                ResultHandle observerResolutionsHandle) {
+            this.group = 1;
+            this.getComponentsMethod = getComponentsMethod;
+            this.componentsProvider = componentsProvider;
+            this.classOutput = classOutput;
+            this.annotationLiterals = annotationLiterals;
+            this.beanDeployment = beanDeployment;
+            this.observersHandle = observersHandle;
+            this.observerResolutionsHandle = observerResolutionsHandle;
+        }
+
+        public void close() {
+            if (addResolutionsMethod != null) {
+                addResolutionsMethod.returnValue(null);
+            }
+        }
+
+        boolean canLoadQualifiers(Set<AnnotationInstance> qualifiers) {
+            for (AnnotationInstance qualifier : qualifiers) {
+                if (BuiltinQualifier.of(qualifier) == null) {
+                    ClassInfo qualifierClass = beanDeployment.getQualifier(qualifier.name());
+                    if (qualifierClass == null || !Modifier.isPublic(qualifierClass.flags())) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        void addResolutions(DotName eventClass, Map<Set<AnnotationInstance>, List<Integer>> resolutions) {
+
+            if (addResolutionsMethod == null || eventsAdded >= GROUP_LIMIT) {
+                if (addResolutionsMethod != null) {
+                    addResolutionsMethod.returnValue(null);
+                }
+                eventsAdded = 0;
+                // First add next addObserverResolutions(list, map) method
+                addResolutionsMethod = componentsProvider
+                        .getMethodCreator(ADD_OBSERVER_RESOLUTIONS + group++, void.class, List.class, Map.class)
+                        .setModifiers(ACC_PRIVATE);
+                // Invoke addObserverResolutions(list, map) inside the getComponents() method
+                getComponentsMethod.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(componentsProvider.getClassName(),
+                                addResolutionsMethod.getMethodDescriptor().getName(), void.class, List.class, Map.class),
+                        getComponentsMethod.getThis(), observersHandle, observerResolutionsHandle);
+            }
+            eventsAdded++;
+
+            // Append to the addObserverResolutions() method body
+            ResultHandle observers = addResolutionsMethod.getMethodParam(0);
+            ResultHandle observerResolutions = addResolutionsMethod.getMethodParam(1);
+
+            // Map<Set<Annotation>, List<InjectableObserverMethod<?>>> byQualifiers = new HashMap<>()
+            ResultHandle byQualifiers = addResolutionsMethod.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+            for (Entry<Set<AnnotationInstance>, List<Integer>> entry : resolutions.entrySet()) {
+                ResultHandle qualifiers = addResolutionsMethod.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+                for (AnnotationInstance qualifier : entry.getKey()) {
+                    BuiltinQualifier builtinQualifier = BuiltinQualifier.of(qualifier);
+                    addResolutionsMethod.invokeInterfaceMethod(MethodDescriptors.SET_ADD, qualifiers,
+                            builtinQualifier != null ? builtinQualifier.getLiteralInstance(addResolutionsMethod)
+                                    : annotationLiterals.process(addResolutionsMethod, classOutput,
+                                            beanDeployment.getQualifier(qualifier.name()), qualifier, SETUP_PACKAGE));
+                }
+                addResolutionsMethod.invokeInterfaceMethod(MethodDescriptors.SET_ADD, qualifiers,
+                        BuiltinQualifier.ANY.getLiteralInstance(addResolutionsMethod));
+                ResultHandle resolved = addResolutionsMethod.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+                for (int index : entry.getValue()) {
+                    addResolutionsMethod.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, resolved,
+                            addResolutionsMethod.invokeInterfaceMethod(MethodDescriptors.LIST_GET, observers,
+                                    addResolutionsMethod.load(index)));
+                }
+                addResolutionsMethod.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, byQualifiers, qualifiers, resolved);
+            }
+            // The event type is represented by the class name so that the event class does not need to be loaded
+            addResolutionsMethod.invokeInterfaceMethod(MethodDescriptors.MAP_PUT, observerResolutions,
+                    addResolutionsMethod.load(eventClass.toString()), byQualifiers);
+        }
+
+    }
+
     static class BeanAdder implements AutoCloseable {
 
         private static final int GROUP_LIMIT = 30;
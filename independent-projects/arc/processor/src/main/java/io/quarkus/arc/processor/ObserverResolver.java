@@ -0,0 +1,144 @@
+package io.quarkus.arc.processor;
+
+import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByNameNoLogging;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+
+/**
+ * Resolves the observer methods for an event type known at build time.
+ * <p>
+ * Only a class without type parameters whose hierarchy is available in the index and does not contain any parameterized
+ * type is supported. The observers for any other event type must be resolved at runtime.
+ */
+final class ObserverResolver {
+
+    private final BeanDeployment beanDeployment;
+
+    private final Map<DotName, Set<DotName>> typeClosures;
+
+    ObserverResolver(BeanDeployment beanDeployment) {
+        this.beanDeployment = beanDeployment;
+        this.typeClosures = new HashMap<>();
+    }
+
+    /**
+     * The observers are returned in the order they are registered; the runtime is responsible for sorting them by priority.
+     *
+     * @param eventClass
+     * @param eventQualifiers
+     * @return the list of matching observers or {@code null} if the observers cannot be resolved at build time
+     */
+    List<ObserverInfo> resolve(DotName eventClass, Set<AnnotationInstance> eventQualifiers) {
+        Set<DotName> closure = typeClosures.computeIfAbsent(eventClass, this::initTypeClosure);
+        if (closure.isEmpty()) {
+            return null;
+        }
+        List<ObserverInfo> resolved = new ArrayList<>();
+        for (ObserverInfo observer : beanDeployment.getObservers()) {
+            Type observedType = observer.getObservedType();
+            switch (observedType.kind()) {
+                case CLASS:
+                    if (!closure.contains(observedType.name())) {
+                        continue;
+                    }
+                    break;
+                case PARAMETERIZED_TYPE:
+                    if (closure.contains(observedType.name())) {
+                        // Raw type in the hierarchy of the event type
+                        return null;
+                    }
+                    continue;
+                case PRIMITIVE:
+                    // The hierarchy of a wrapper type always contains a parameterized type, e.g. Comparable<Integer>
+                case ARRAY:
+                    continue;
+                default:
+                    // Type variables, etc.
+                    return null;
+            }
+            Boolean matches = matchesQualifiers(observer.getQualifiers(), eventQualifiers);
+            if (matches == null) {
+                return null;
+            }
+            if (matches) {
+                resolved.add(observer);
+            }
+        }
+        return resolved;
+    }
+
+    private Boolean matchesQualifiers(Collection<AnnotationInstance> observedQualifiers,
+            Collection<AnnotationInstance> eventQualifiers) {
+        for (AnnotationInstance required : observedQualifiers) {
+            if (BuiltinQualifier.of(required) != null) {
+                if (!containsName(eventQualifiers, required.name())) {
+                    return false;
+                }
+                continue;
+            }
+            ClassInfo qualifierClass = beanDeployment.getQualifier(required.name());
+            if (qualifierClass == null) {
+                return null;
+            }
+            if (!Beans.hasQualifier(qualifierClass, required, eventQualifiers)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean containsName(Collection<AnnotationInstance> qualifiers, DotName name) {
+        for (AnnotationInstance qualifier : qualifiers) {
+            if (qualifier.name().equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Set<DotName> initTypeClosure(DotName eventClass) {
+        Set<DotName> closure = new HashSet<>();
+        closure.add(DotNames.OBJECT);
+        Deque<DotName> queue = new ArrayDeque<>();
+        queue.add(eventClass);
+        while (!queue.isEmpty()) {
+            DotName name = queue.poll();
+            if (!closure.add(name)) {
+                continue;
+            }
+            ClassInfo clazz = getClassByNameNoLogging(beanDeployment.getIndex(), name);
+            if (clazz == null || !clazz.typeParameters().isEmpty()) {
+                return Collections.emptySet();
+            }
+            Type superType = clazz.superClassType();
+            if (superType != null) {
+                if (superType.kind() != Kind.CLASS) {
+                    return Collections.emptySet();
+                }
+                queue.add(superType.name());
+            }
+            for (Type interfaceType : clazz.interfaceTypes()) {
+                if (interfaceType.kind() != Kind.CLASS) {
+                    return Collections.emptySet();
+                }
+                queue.add(interfaceType.name());
+            }
+        }
+        return closure;
+    }
+
+}
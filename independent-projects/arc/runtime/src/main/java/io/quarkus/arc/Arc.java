@@ -33,6 +33,15 @@ public final class Arc {
         INSTANCE.get().setExecutor(executor);
     }
 
+    /**
+     *
+     * @param asyncEventDelivery The delivery of asynchronous events or {@code null} to restore the default behavior
+     * @see AsyncEventDelivery#builder()
+     */
+    public static void setAsyncEventDelivery(AsyncEventDelivery asyncEventDelivery) {
+        INSTANCE.get().setAsyncEventDelivery(asyncEventDelivery);
+    }
+
     /**
      *
      * @return the container instance
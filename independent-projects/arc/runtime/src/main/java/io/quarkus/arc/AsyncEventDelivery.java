@@ -0,0 +1,182 @@
+package io.quarkus.arc;
+
+import io.quarkus.arc.impl.AsyncEventDeliveryImpl;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.enterprise.inject.spi.ObserverMethod;
+
+/**
+ * Controls the delivery of asynchronous events, i.e. the notification of asynchronous observer methods.
+ * <p>
+ * By default, all asynchronous observers of an event are notified sequentially using the default executor of the
+ * container and the number of deliveries in progress is not limited. A custom delivery can:
+ * <ul>
+ * <li>use a dedicated executor for specific observer methods or event types,</li>
+ * <li>limit the number of pending deliveries and specify what happens if the limit is exceeded,</li>
+ * <li>deliver the events with the same key in the order they were fired.</li>
+ * </ul>
+ * Observers notified by different executors are notified concurrently, i.e. the observer ordering is only guaranteed
+ * for the observers notified by the same executor.
+ *
+ * @see Arc#setAsyncEventDelivery(AsyncEventDelivery)
+ */
+public interface AsyncEventDelivery {
+
+    /**
+     *
+     * @return a new builder instance
+     */
+    static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     *
+     * @return the number of accepted deliveries that are not completed yet
+     */
+    int getPending();
+
+    /**
+     *
+     * @return the number of completed deliveries
+     */
+    long getDelivered();
+
+    /**
+     *
+     * @return the number of deliveries that exceeded the limit of pending deliveries
+     */
+    long getOverflowed();
+
+    /**
+     *
+     * @return the average time in nanoseconds between an event was fired and all its observers were notified
+     */
+    long getAverageLatency();
+
+    /**
+     *
+     * @return the max time in nanoseconds between an event was fired and all its observers were notified
+     */
+    long getMaxLatency();
+
+    enum OverflowPolicy {
+
+        /**
+         * The completion stage returned from {@code Event.fireAsync()} is completed exceptionally with
+         * {@link RejectedExecutionException}.
+         */
+        REJECT,
+        /**
+         * The observers are notified synchronously on the thread that fired the event. The ordering of events with the same
+         * key is not guaranteed.
+         */
+        CALLER_RUNS,
+
+    }
+
+    final class Builder {
+
+        private Executor executor;
+        private final List<Map.Entry<Predicate<ObserverMethod<?>>, Executor>> observerExecutors;
+        private final List<Map.Entry<Class<?>, Executor>> eventExecutors;
+        private int maxPending;
+        private OverflowPolicy overflowPolicy;
+        private Function<Object, Object> orderingKey;
+
+        private Builder() {
+            this.observerExecutors = new ArrayList<>();
+            this.eventExecutors = new ArrayList<>();
+            this.maxPending = Integer.MAX_VALUE;
+            this.overflowPolicy = OverflowPolicy.REJECT;
+        }
+
+        /**
+         * The default executor is used if no other executor is specified for a specific observer or event type, and no
+         * executor is specified in the {@code NotificationOptions}. By default, the executor of the container is used.
+         *
+         * @param executor
+         * @return self
+         */
+        public Builder executor(Executor executor) {
+            this.executor = Objects.requireNonNull(executor);
+            return this;
+        }
+
+        /**
+         * The first matching observer executor wins.
+         *
+         * @param observers
+         * @param executor
+         * @return self
+         */
+        public Builder observerExecutor(Predicate<ObserverMethod<?>> observers, Executor executor) {
+            observerExecutors.add(new AbstractMap.SimpleImmutableEntry<>(Objects.requireNonNull(observers),
+                    Objects.requireNonNull(executor)));
+            return this;
+        }
+
+        /**
+         * The executor is used if the runtime class of an event is assignable to the given type and no observer executor
+         * matches. The first matching event executor wins.
+         *
+         * @param eventType
+         * @param executor
+         * @return self
+         */
+        public Builder eventExecutor(Class<?> eventType, Executor executor) {
+            eventExecutors.add(new AbstractMap.SimpleImmutableEntry<>(Objects.requireNonNull(eventType),
+                    Objects.requireNonNull(executor)));
+            return this;
+        }
+
+        /**
+         *
+         * @param maxPending The max number of accepted deliveries that are not completed yet
+         * @return self
+         */
+        public Builder maxPending(int maxPending) {
+            if (maxPending <= 0) {
+                throw new IllegalArgumentException("The max number of pending deliveries must be positive: " + maxPending);
+            }
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        /**
+         *
+         * @param overflowPolicy The policy applied if the max number of pending deliveries is exceeded
+         * @return self
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+            this.overflowPolicy = Objects.requireNonNull(overflowPolicy);
+            return this;
+        }
+
+        /**
+         * The events with the same non-null key are delivered in the order they were fired, i.e. the delivery starts after
+         * the delivery of the previous event with the same key is completed.
+         *
+         * @param orderingKey The function that extracts the key from an event object
+         * @return self
+         */
+        public Builder orderingKey(Function<Object, Object> orderingKey) {
+            this.orderingKey = Objects.requireNonNull(orderingKey);
+            return this;
+        }
+
+        public AsyncEventDelivery build() {
+            return new AsyncEventDeliveryImpl(executor, observerExecutors, eventExecutors, maxPending, overflowPolicy,
+                    orderingKey);
+        }
+
+    }
+
+}
@@ -2,6 +2,8 @@ package io.quarkus.arc;
 
 import java.lang.annotation.Annotation;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -11,14 +13,23 @@ public final class Components {
     private final Collection<InjectableObserverMethod<?>> observers;
     private final Collection<InjectableContext> contexts;
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
+    private final Map<String, Map<Set<Annotation>, List<InjectableObserverMethod<?>>>> observerResolutions;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
             Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings) {
+        this(beans, observers, contexts, transitiveInterceptorBindings, Collections.emptyMap());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Map<String, Map<Set<Annotation>, List<InjectableObserverMethod<?>>>> observerResolutions) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
         this.transitiveInterceptorBindings = transitiveInterceptorBindings;
+        this.observerResolutions = observerResolutions;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -37,4 +48,14 @@ public final class Components {
         return transitiveInterceptorBindings;
     }
 
+    /**
+     * The observers resolved at build time for the event types and qualifiers known at build time. The key is the name of
+     * the event class and the value is a map of the set of event qualifiers to the matching observers.
+     *
+     * @return the precomputed observer resolutions
+     */
+    public Map<String, Map<Set<Annotation>, List<InjectableObserverMethod<?>>>> getObserverResolutions() {
+        return observerResolutions;
+    }
+
 }
@@ -105,4 +105,15 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned at build time to all {@link javax.enterprise.context.RequestScoped},
+     * {@link javax.enterprise.context.ApplicationScoped} and {@link javax.inject.Singleton} beans so that the built-in
+     * contexts can store the contextual instances in an array. The indexes are assigned per scope.
+     *
+     * @return the index of the bean in the context of its scope or -1
+     */
+    default int getContextIndex() {
+        return -1;
+    }
+
 }
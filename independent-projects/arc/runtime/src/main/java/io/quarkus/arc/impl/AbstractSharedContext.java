@@ -3,18 +3,41 @@ package io.quarkus.arc.impl;
 import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.stream.Collectors;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 
+/**
+ * Instances of beans with an index assigned at build time are published in an array once fully initialized, i.e. the
+ * lookup of an existing instance is a single volatile read. Each index has its own lock that is only used to create the
+ * instance. Instances of other contextuals are stored in a map.
+ *
+ * @see InjectableBean#getContextIndex()
+ */
 abstract class AbstractSharedContext implements InjectableContext, InjectableContext.ContextState {
 
+    private final AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+
+    // A lock per index so that the creation of a bean does not block the creation of its dependencies
+    private final Object[] locks;
+
     private final ComputingCache<Key<?>, ContextInstanceHandle<?>> instances;
 
-    public AbstractSharedContext() {
+    /**
+     *
+     * @param size The number of beans with an index assigned at build time
+     */
+    public AbstractSharedContext(int size) {
+        this.indexed = new AtomicReferenceArray<>(size);
+        this.locks = new Object[size];
+        for (int i = 0; i < size; i++) {
+            locks[i] = new Object();
+        }
         this.instances = new ComputingCache<>(AbstractSharedContext::createInstanceHandle);
     }
 
@@ -22,14 +45,27 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
     @Override
     public <T> T get(Contextual<T> contextual, CreationalContext<T> creationalContext) {
         checkContextualParameter(contextual);
-        return (T) instances.getValue(new Key<>(contextual, creationalContext)).get();
+        return (T) getHandle(contextual, creationalContext).get();
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the handle of the contextual instance, a new instance is created if needed
+     * @see ClientProxies#getApplicationScopedHandle(InjectableBean)
+     */
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getInstanceHandle(InjectableBean<T> bean) {
+        return (ContextInstanceHandleImpl<T>) getHandle(bean, new CreationalContextImpl<T>(bean));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual) {
         checkContextualParameter(contextual);
-        ContextInstanceHandle<?> handle = instances.getValueIfPresent(new Key<>(contextual, null));
+        int index = indexOf(contextual);
+        ContextInstanceHandle<?> handle = index != -1 ? indexed.get(index)
+                : instances.getValueIfPresent(new Key<>(contextual, null));
         return handle != null ? (T) handle.get() : null;
     }
 
@@ -40,8 +76,14 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public Map<InjectableBean<?>, Object> getContextualInstances() {
-        return instances.getPresentValues().stream()
-                .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+        List<ContextInstanceHandle<?>> handles = new ArrayList<>(instances.getPresentValues());
+        for (int i = 0; i < indexed.length(); i++) {
+            ContextInstanceHandle<?> handle = indexed.get(i);
+            if (handle != null) {
+                handles.add(handle);
+            }
+        }
+        return handles.stream().collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
     }
 
     @Override
@@ -51,27 +93,76 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        ContextInstanceHandle<?> handle = instances.remove(new Key<>(contextual, null));
+        int index = indexOf(contextual);
+        ContextInstanceHandle<?> handle = index != -1 ? indexed.getAndSet(index, null)
+                : instances.remove(new Key<>(contextual, null));
         if (handle != null) {
             handle.destroy();
         }
     }
 
     @Override
-    public synchronized void destroy() {
-        Set<ContextInstanceHandle<?>> values = instances.getPresentValues();
+    public void destroy() {
+        // Each instance is removed atomically so that it is destroyed only once
+        List<ContextInstanceHandle<?>> removed = new ArrayList<>();
+        for (int i = 0; i < indexed.length(); i++) {
+            ContextInstanceHandle<?> handle = indexed.getAndSet(i, null);
+            if (handle != null) {
+                removed.add(handle);
+            }
+        }
+        for (ContextInstanceHandle<?> handle : instances.getPresentValues()) {
+            if (instances.remove(new Key<>(handle.getBean(), null)) != null) {
+                removed.add(handle);
+            }
+        }
         // Destroy the producers first
-        for (Iterator<ContextInstanceHandle<?>> iterator = values.iterator(); iterator.hasNext();) {
+        for (Iterator<ContextInstanceHandle<?>> iterator = removed.iterator(); iterator.hasNext();) {
             ContextInstanceHandle<?> instanceHandle = iterator.next();
             if (instanceHandle.getBean().getDeclaringBean() != null) {
                 instanceHandle.destroy();
                 iterator.remove();
             }
         }
-        for (ContextInstanceHandle<?> instanceHandle : values) {
+        for (ContextInstanceHandle<?> instanceHandle : removed) {
             instanceHandle.destroy();
         }
-        instances.clear();
+    }
+
+    private <T> ContextInstanceHandle<?> getHandle(Contextual<T> contextual, CreationalContext<T> creationalContext) {
+        int index = indexOf(contextual);
+        if (index != -1) {
+            ContextInstanceHandle<?> handle = indexed.get(index);
+            if (handle == null) {
+                handle = createIndexed(index, (InjectableBean<T>) contextual, creationalContext);
+            }
+            return handle;
+        }
+        return instances.getValue(new Key<>(contextual, creationalContext));
+    }
+
+    private <T> ContextInstanceHandle<?> createIndexed(int index, InjectableBean<T> bean,
+            CreationalContext<T> creationalContext) {
+        synchronized (locks[index]) {
+            ContextInstanceHandle<?> handle = indexed.get(index);
+            if (handle == null) {
+                // Publish the handle only after the instance is fully initialized
+                handle = new ContextInstanceHandleImpl<>(bean, bean.create(creationalContext), creationalContext);
+                indexed.set(index, handle);
+            }
+            return handle;
+        }
+    }
+
+    private int indexOf(Contextual<?> contextual) {
+        if (contextual instanceof InjectableBean) {
+            InjectableBean<?> bean = (InjectableBean<?>) contextual;
+            int index = bean.getContextIndex();
+            if (index < indexed.length() && bean.getScope() == getScope()) {
+                return index;
+            }
+        }
+        return -1;
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
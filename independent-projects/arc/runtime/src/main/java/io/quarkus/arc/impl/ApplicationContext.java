@@ -5,6 +5,10 @@ import javax.enterprise.context.ApplicationScoped;
 
 class ApplicationContext extends AbstractSharedContext {
 
+    ApplicationContext(int size) {
+        super(size);
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return ApplicationScoped.class;
@@ -2,6 +2,7 @@ package io.quarkus.arc.impl;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.AsyncEventDelivery;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.InjectableBean;
@@ -12,10 +13,12 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.ResourceReferenceProvider;
 import io.quarkus.arc.impl.ArcCDIProvider.ArcCDI;
+import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -26,11 +29,14 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import javax.enterprise.context.ApplicationScoped;
@@ -38,6 +44,7 @@ import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.Dependent;
 import javax.enterprise.context.Destroyed;
 import javax.enterprise.context.Initialized;
+import javax.enterprise.context.RequestScoped;
 import javax.enterprise.event.Event;
 import javax.enterprise.inject.AmbiguousResolutionException;
 import javax.enterprise.inject.Any;
@@ -61,6 +68,8 @@ public class ArcContainerImpl implements ArcContainer {
 
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    // The max number of cached event notifiers; the notifiers for additional event types are not cached
+    private static final int MAX_NOTIFIERS = 1024;
 
     private final String id;
 
@@ -69,6 +78,8 @@ public class ArcContainerImpl implements ArcContainer {
     private final List<InjectableBean<?>> beans;
     private final List<InjectableInterceptor<?>> interceptors;
     private final List<InjectableObserverMethod<?>> observers;
+    // Observers resolved at build time, keyed by the name of the event class and the set of event qualifiers
+    private final Map<String, Map<Set<Annotation>, List<InjectableObserverMethod<?>>>> observerResolutions;
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
 
     // List of "ambiguous" contexts that could share a scope
@@ -80,11 +91,14 @@ public class ArcContainerImpl implements ArcContainer {
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
+    private final ConcurrentMap<NotifierKey, Notifier<?>> notifiers;
 
     private final List<ResourceReferenceProvider> resourceProviders;
 
     private volatile ExecutorService executorService;
 
+    private volatile AsyncEventDeliveryImpl asyncEventDelivery;
+
     public ArcContainerImpl() {
         id = "" + ID_GENERATOR.incrementAndGet();
         running = new AtomicBoolean(true);
@@ -93,14 +107,12 @@ public class ArcContainerImpl implements ArcContainer {
         observers = new ArrayList<>();
         transitiveInterceptorBindings = new HashMap<>();
 
-        applicationContext = new ApplicationContext();
-        singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
 
+        List<Map<String, Map<Set<Annotation>, List<InjectableObserverMethod<?>>>>> resolutions = new ArrayList<>();
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
+            resolutions.add(components.getObserverResolutions());
             for (InjectableBean<?> bean : components.getBeans()) {
                 if (bean instanceof InjectableInterceptor) {
                     interceptors.add((InjectableInterceptor<?>) bean);
@@ -129,11 +141,29 @@ public class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans();
 
+        requestContext = new RequestContext(getContextSize(RequestScoped.class));
+        applicationContext = new ApplicationContext(getContextSize(ApplicationScoped.class));
+        singletonContext = new SingletonContext(getContextSize(Singleton.class));
+        contexts.add(0, requestContext);
+
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
+        // The precomputed resolutions are incomplete if there are multiple components providers
+        if (resolutions.size() == 1) {
+            observerResolutions = resolutions.get(0);
+            for (Map<Set<Annotation>, List<InjectableObserverMethod<?>>> byQualifiers : observerResolutions.values()) {
+                for (List<InjectableObserverMethod<?>> resolved : byQualifiers.values()) {
+                    resolved.sort(InjectableObserverMethod::compare);
+                }
+            }
+        } else {
+            observerResolutions = Collections.emptyMap();
+        }
+
         resolved = new ComputingCache<>(this::resolve);
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
+        notifiers = new ConcurrentHashMap<>();
         resourceProviders = new ArrayList<>();
         for (ResourceReferenceProvider resourceProvider : ServiceLoader.load(ResourceReferenceProvider.class)) {
             resourceProviders.add(resourceProvider);
@@ -147,6 +177,28 @@ public class ArcContainerImpl implements ArcContainer {
         beans.add(new InstanceBean());
     }
 
+    /**
+     *
+     * @param scope
+     * @return the size of the array used to store the instances of beans with an index assigned at build time
+     */
+    private int getContextSize(Class<? extends Annotation> scope) {
+        BitSet indexes = new BitSet();
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getContextIndex();
+            if (index >= 0 && scope.equals(bean.getScope())) {
+                if (indexes.get(index)) {
+                    // Multiple components providers may assign the same index
+                    LOGGER.debugf("Duplicate context index %s found for %s - contextual instances are stored in a map", index,
+                            scope.getSimpleName());
+                    return 0;
+                }
+                indexes.set(index);
+            }
+        }
+        return indexes.length();
+    }
+
     public void init() {
         requireRunning();
         // Fire an event with qualifier @Initialized(ApplicationScoped.class)
@@ -277,6 +329,17 @@ public class ArcContainerImpl implements ArcContainer {
         this.executorService = executor;
     }
 
+    AsyncEventDeliveryImpl getAsyncEventDelivery() {
+        return asyncEventDelivery;
+    }
+
+    public void setAsyncEventDelivery(AsyncEventDelivery asyncEventDelivery) {
+        if (asyncEventDelivery != null && !(asyncEventDelivery instanceof AsyncEventDeliveryImpl)) {
+            throw new IllegalArgumentException("Unsupported async event delivery: " + asyncEventDelivery);
+        }
+        this.asyncEventDelivery = (AsyncEventDeliveryImpl) asyncEventDelivery;
+    }
+
     @Override
     public String toString() {
         return "ArcContainerImpl [id=" + id + ", running=" + running + ", beans=" + beans.size() + ", observers="
@@ -319,6 +382,7 @@ public class ArcContainerImpl implements ArcContainer {
             contexts.clear();
             beans.clear();
             resolved.clear();
+            notifiers.clear();
             observers.clear();
             running.set(false);
             LOGGER.debugf("ArC DI container shut down");
@@ -526,11 +590,21 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
         if (observers.isEmpty()) {
             return Collections.emptyList();
         }
+        if (eventType instanceof Class && !observerResolutions.isEmpty()) {
+            Map<Set<Annotation>, List<InjectableObserverMethod<?>>> byQualifiers = observerResolutions
+                    .get(((Class<?>) eventType).getName());
+            if (byQualifiers != null) {
+                List<InjectableObserverMethod<?>> resolved = byQualifiers.get(eventQualifiers);
+                if (resolved != null) {
+                    return (List) resolved;
+                }
+            }
+        }
         Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
         List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
         for (InjectableObserverMethod<?> observer : observers) {
@@ -546,6 +620,31 @@ public class ArcContainerImpl implements ArcContainer {
         return resolvedObservers;
     }
 
+    /**
+     * The notifiers are cached per runtime type of the event object, the specified event type and the set of qualifiers.
+     *
+     * @param runtimeType
+     * @param eventType
+     * @param qualifiers
+     * @param factory
+     * @return the notifier
+     */
+    Notifier<?> getNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
+            Function<Class<?>, Notifier<?>> factory) {
+        NotifierKey key = new NotifierKey(runtimeType, eventType, qualifiers);
+        Notifier<?> notifier = notifiers.get(key);
+        if (notifier == null) {
+            notifier = factory.apply(runtimeType);
+            if (notifiers.size() < MAX_NOTIFIERS) {
+                Notifier<?> previous = notifiers.putIfAbsent(key, notifier);
+                if (previous != null) {
+                    notifier = previous;
+                }
+            }
+        }
+        return notifier;
+    }
+
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
         if (interceptors.isEmpty()) {
             return Collections.emptyList();
@@ -677,4 +776,41 @@ public class ArcContainerImpl implements ArcContainer {
         }
 
     }
+
+    private static final class NotifierKey {
+
+        final Class<?> runtimeType;
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        private final int hashCode;
+
+        NotifierKey(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers) {
+            this.runtimeType = runtimeType;
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+            this.hashCode = Objects.hash(runtimeType, eventType, qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NotifierKey)) {
+                return false;
+            }
+            NotifierKey other = (NotifierKey) obj;
+            return runtimeType.equals(other.runtimeType) && eventType.equals(other.eventType)
+                    && qualifiers.equals(other.qualifiers);
+        }
+
+    }
 }
@@ -1,54 +1,124 @@
 package io.quarkus.arc.impl;
 
+import io.quarkus.arc.ArcInvocationContext;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
 import javax.interceptor.InvocationContext;
 
 /**
  * Special type of InvocationContext for AroundInvoke interceptors.
  * <p>
- * A new instance of {@link AroundInvokeInvocationContext} is created for each interceptor in the chain. This does not comply
- * with the spec but allows for "asynchronous continuation" of an interceptor chain execution. In other words, it is possible to
- * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
- * asynchronously, possibly on a different thread.
+ * A single instance of {@link AroundInvokeInvocationContext} is used for all interceptors in the chain; the position of the
+ * next interceptor is restored after each invocation so that an interceptor may call {@link #proceed()} multiple times.
+ * <p>
+ * "Asynchronous continuation" of an interceptor chain execution is also supported. In other words, it is possible to "cut off"
+ * the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors asynchronously,
+ * possibly on a different thread. If {@link #proceed()} is called from a thread that is not executing the chain, or after the
+ * chain execution completed, a new context is created and the chain continues after the interceptor that called
+ * {@link #proceed()}. However, a single instance cannot tell the interceptors apart. Therefore, if the intercepted method
+ * returns an asynchronous type, e.g. {@link CompletionStage}, each interceptor receives a lightweight view that holds its
+ * position in the chain. Otherwise the chain continues after the deepest interceptor invoked so far.
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
-    private final int position;
+    private static final Set<String> ASYNC_TYPES = new HashSet<>(Arrays.asList("org.reactivestreams.Publisher",
+            "io.smallrye.mutiny.Uni", "io.smallrye.mutiny.Multi"));
+
     private final Function<InvocationContext, Object> aroundInvokeForward;
+    // If true then each interceptor receives a view that holds its position
+    private final boolean views;
+
+    // The thread executing the chain, null if the execution completed
+    // A stale value read by another thread never matches the current thread so the field does not need to be volatile
+    private Thread owner;
+    // The position of the next interceptor in the chain
+    private int position;
+    // The position of the deepest interceptor invoked; handing off the continuation to another thread must establish
+    // a happens-before relationship anyway (e.g. by means of an executor)
+    private int deepest;
 
     AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            LazyValue<Map<String, Object>> contextData, Set<Annotation> interceptorBindings, int position,
-            List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
+            Map<String, Object> contextData, Set<Annotation> interceptorBindings,
+            List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward, boolean views) {
         super(target, method, null, parameters, contextData, interceptorBindings, chain);
-        this.position = position;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.views = views;
+        this.deepest = -1;
     }
 
     static Object perform(Object target, Method method,
             Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters,
             List<InterceptorInvocation> chain,
             Set<Annotation> interceptorBindings) throws Exception {
-
-        return chain.get(0).invoke(new AroundInvokeInvocationContext(target, method,
-                parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
+        return new AroundInvokeInvocationContext(target, method, parameters, null, interceptorBindings, chain,
+                aroundInvokeForward, isAsync(method.getReturnType())).execute(0);
     }
 
     @Override
     public Object proceed() throws Exception {
+        if (owner != Thread.currentThread()) {
+            return proceedAsync(deepest + 1);
+        }
+        return invokeNext();
+    }
+
+    /**
+     * 
+     * @param next The position of the interceptor after the interceptor that called {@link #proceed()}
+     * @return the result
+     * @throws Exception
+     */
+    Object proceed(int next) throws Exception {
+        if (owner != Thread.currentThread()) {
+            return proceedAsync(next);
+        }
+        int previous = position;
+        position = next;
         try {
-            if (position < chain.size()) {
+            return invokeNext();
+        } finally {
+            position = previous;
+        }
+    }
+
+    private Object proceedAsync(int next) throws Exception {
+        // Asynchronous continuation - the data are shared with the original context
+        return new AroundInvokeInvocationContext(target, method, parameters, getContextData(), interceptorBindings,
+                chain, aroundInvokeForward, views).execute(next);
+    }
+
+    private Object execute(int position) throws Exception {
+        this.owner = Thread.currentThread();
+        this.position = position;
+        try {
+            return invokeNext();
+        } finally {
+            this.owner = null;
+        }
+    }
+
+    private Object invokeNext() throws Exception {
+        int current = position;
+        try {
+            if (current < chain.size()) {
                 // Invoke the next interceptor in the chain
-                return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                position = current + 1;
+                if (current > deepest) {
+                    deepest = current;
+                }
+                return chain.get(current).invoke(views ? new PositionView(this, current + 1) : this);
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -62,7 +132,73 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
                 throw (Exception) cause;
             }
             throw new RuntimeException(cause);
+        } finally {
+            position = current;
+        }
+    }
+
+    private static boolean isAsync(Class<?> type) {
+        return CompletionStage.class.isAssignableFrom(type) || ASYNC_TYPES.contains(type.getName());
+    }
+
+    /**
+     * A view of the shared context that continues after the interceptor it was passed to.
+     */
+    static final class PositionView implements ArcInvocationContext {
+
+        private final AroundInvokeInvocationContext context;
+        private final int next;
+
+        PositionView(AroundInvokeInvocationContext context, int next) {
+            this.context = context;
+            this.next = next;
+        }
+
+        @Override
+        public Object proceed() throws Exception {
+            return context.proceed(next);
+        }
+
+        @Override
+        public Object getTarget() {
+            return context.getTarget();
+        }
+
+        @Override
+        public Object getTimer() {
+            return context.getTimer();
+        }
+
+        @Override
+        public Method getMethod() {
+            return context.getMethod();
         }
+
+        @Override
+        public Constructor<?> getConstructor() {
+            return context.getConstructor();
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return context.getParameters();
+        }
+
+        @Override
+        public void setParameters(Object[] params) {
+            context.setParameters(params);
+        }
+
+        @Override
+        public Map<String, Object> getContextData() {
+            return context.getContextData();
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return context.getInterceptorBindings();
+        }
+
     }
 
 }
@@ -0,0 +1,207 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncEventDelivery;
+import io.quarkus.arc.impl.EventImpl.CollectingExceptionHandler;
+import io.quarkus.arc.impl.EventImpl.Notifier;
+import io.quarkus.arc.impl.EventImpl.ObserverExceptionHandler;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import javax.enterprise.inject.spi.ObserverMethod;
+
+/**
+ *
+ * @see AsyncEventDelivery#builder()
+ */
+public class AsyncEventDeliveryImpl implements AsyncEventDelivery {
+
+    private final Executor executor;
+    private final List<Map.Entry<Predicate<ObserverMethod<?>>, Executor>> observerExecutors;
+    private final List<Map.Entry<Class<?>, Executor>> eventExecutors;
+    private final int maxPending;
+    private final OverflowPolicy overflowPolicy;
+    private final Function<Object, Object> orderingKey;
+
+    // Key -> the completion of the last accepted delivery
+    private final ConcurrentMap<Object, CompletableFuture<Void>> lastDeliveries;
+
+    private final AtomicInteger pending;
+    private final LongAdder delivered;
+    private final LongAdder overflowed;
+    private final LongAdder totalLatency;
+    private final AtomicLong maxLatency;
+
+    public AsyncEventDeliveryImpl(Executor executor, List<Map.Entry<Predicate<ObserverMethod<?>>, Executor>> observerExecutors,
+            List<Map.Entry<Class<?>, Executor>> eventExecutors, int maxPending, OverflowPolicy overflowPolicy,
+            Function<Object, Object> orderingKey) {
+        this.executor = executor;
+        this.observerExecutors = observerExecutors.isEmpty() ? Collections.emptyList() : new ArrayList<>(observerExecutors);
+        this.eventExecutors = eventExecutors.isEmpty() ? Collections.emptyList() : new ArrayList<>(eventExecutors);
+        this.maxPending = maxPending;
+        this.overflowPolicy = overflowPolicy;
+        this.orderingKey = orderingKey;
+        this.lastDeliveries = new ConcurrentHashMap<>();
+        this.pending = new AtomicInteger();
+        this.delivered = new LongAdder();
+        this.overflowed = new LongAdder();
+        this.totalLatency = new LongAdder();
+        this.maxLatency = new AtomicLong();
+    }
+
+    @Override
+    public int getPending() {
+        return pending.get();
+    }
+
+    @Override
+    public long getDelivered() {
+        return delivered.sum();
+    }
+
+    @Override
+    public long getOverflowed() {
+        return overflowed.sum();
+    }
+
+    @Override
+    public long getAverageLatency() {
+        long count = delivered.sum();
+        return count == 0 ? 0 : totalLatency.sum() / count;
+    }
+
+    @Override
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    /**
+     *
+     * @param event
+     * @param notifier
+     * @param optionsExecutor The executor specified in the notification options, may be {@code null}
+     * @return the completion stage
+     */
+    <T> CompletionStage<T> deliver(T event, Notifier<T> notifier, Executor optionsExecutor) {
+        long start = System.nanoTime();
+        Executor defaultExecutor = optionsExecutor != null ? optionsExecutor
+                : (executor != null ? executor : Arc.container().getExecutorService());
+        ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler(new CopyOnWriteArrayList<>());
+
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            overflowed.increment();
+            CompletableFuture<T> result = new CompletableFuture<>();
+            if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+                try {
+                    notifier.notify(event, exceptionHandler, true);
+                    EventImpl.handleExceptions(exceptionHandler);
+                    result.complete(event);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+                completed(start);
+            } else {
+                result.completeExceptionally(
+                        new RejectedExecutionException("Max number of pending async event deliveries exceeded: " + maxPending));
+            }
+            return new AsyncEventDeliveryStage<>(result, defaultExecutor);
+        }
+
+        Object key = orderingKey != null ? orderingKey.apply(event) : null;
+        CompletableFuture<Void> notified;
+        if (key == null) {
+            notified = notifyObservers(event, notifier, defaultExecutor, exceptionHandler);
+        } else {
+            // The delivery starts when the previous delivery with the same key is completed
+            CompletableFuture<Void> done = new CompletableFuture<>();
+            CompletableFuture<Void> previous = lastDeliveries.put(key, done);
+            if (previous == null) {
+                notified = notifyObservers(event, notifier, defaultExecutor, exceptionHandler);
+            } else {
+                notified = previous.thenCompose(ignored -> notifyObservers(event, notifier, defaultExecutor, exceptionHandler));
+            }
+            notified.whenComplete((r, t) -> {
+                lastDeliveries.remove(key, done);
+                done.complete(null);
+            });
+        }
+        CompletableFuture<T> result = notified.handle((ignored, failure) -> {
+            // Update the metrics before the returned stage is completed
+            pending.decrementAndGet();
+            completed(start);
+            if (failure != null) {
+                throw failure instanceof CompletionException ? (CompletionException) failure
+                        : new CompletionException(failure);
+            }
+            EventImpl.handleExceptions(exceptionHandler);
+            return event;
+        });
+        return new AsyncEventDeliveryStage<>(result, defaultExecutor);
+    }
+
+    private <T> CompletableFuture<Void> notifyObservers(T event, Notifier<T> notifier, Executor defaultExecutor,
+            ObserverExceptionHandler exceptionHandler) {
+        try {
+            if (observerExecutors.isEmpty() && eventExecutors.isEmpty()) {
+                return CompletableFuture.runAsync(() -> notifier.notify(event, exceptionHandler, true), defaultExecutor);
+            }
+            // Observers with the same executor are notified sequentially
+            Map<Executor, List<ObserverMethod<? super T>>> groups = new LinkedHashMap<>();
+            for (ObserverMethod<? super T> observer : notifier.getObserverMethods()) {
+                if (observer.isAsync()) {
+                    groups.computeIfAbsent(getExecutor(observer, event.getClass(), defaultExecutor),
+                            e -> new ArrayList<>()).add(observer);
+                }
+            }
+            CompletableFuture<?>[] notifications = new CompletableFuture<?>[groups.size()];
+            int idx = 0;
+            for (Map.Entry<Executor, List<ObserverMethod<? super T>>> group : groups.entrySet()) {
+                notifications[idx++] = CompletableFuture.runAsync(
+                        () -> notifier.notify(event, exceptionHandler, true, group.getValue()), group.getKey());
+            }
+            return CompletableFuture.allOf(notifications);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<Void> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+    }
+
+    private Executor getExecutor(ObserverMethod<?> observer, Class<?> eventClass, Executor defaultExecutor) {
+        for (Map.Entry<Predicate<ObserverMethod<?>>, Executor> entry : observerExecutors) {
+            if (entry.getKey().test(observer)) {
+                return entry.getValue();
+            }
+        }
+        for (Map.Entry<Class<?>, Executor> entry : eventExecutors) {
+            if (entry.getKey().isAssignableFrom(eventClass)) {
+                return entry.getValue();
+            }
+        }
+        return defaultExecutor;
+    }
+
+    private void completed(long start) {
+        long latency = System.nanoTime() - start;
+        delivered.increment();
+        totalLatency.add(latency);
+        maxLatency.accumulateAndGet(latency, Math::max);
+    }
+
+}
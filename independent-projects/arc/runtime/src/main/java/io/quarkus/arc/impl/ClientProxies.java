@@ -0,0 +1,26 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableBean;
+import javax.enterprise.context.ApplicationScoped;
+
+/**
+ * Methods used by generated client proxies.
+ */
+public final class ClientProxies {
+
+    private ClientProxies() {
+    }
+
+    /**
+     * A client proxy of an application scoped bean caches the returned handle until the instance is destroyed.
+     *
+     * @param bean
+     * @return the handle of the contextual instance of the given application scoped bean
+     * @see ContextInstanceHandleImpl#isDestroyed()
+     */
+    public static ContextInstanceHandleImpl<?> getApplicationScopedHandle(InjectableBean<?> bean) {
+        return ((AbstractSharedContext) Arc.container().getActiveContext(ApplicationScoped.class)).getInstanceHandle(bean);
+    }
+
+}
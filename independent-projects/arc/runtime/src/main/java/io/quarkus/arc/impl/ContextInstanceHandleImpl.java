@@ -11,13 +11,25 @@ import javax.enterprise.context.spi.CreationalContext;
  */
 public class ContextInstanceHandleImpl<T> extends InstanceHandleImpl<T> implements ContextInstanceHandle<T> {
 
+    private volatile boolean destroyed;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        destroyed = true;
         destroyInternal();
     }
 
+    /**
+     * A client proxy may cache the handle as long as the instance is not destroyed.
+     *
+     * @return {@code true} if the instance was destroyed by the context
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
 }
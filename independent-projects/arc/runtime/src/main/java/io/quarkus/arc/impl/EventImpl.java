@@ -1,6 +1,7 @@
 package io.quarkus.arc.impl;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.ParameterizedType;
@@ -15,8 +16,6 @@ import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import javax.enterprise.event.Event;
@@ -37,22 +36,24 @@ import javax.enterprise.util.TypeLiteral;
  */
 class EventImpl<T> implements Event<T> {
 
-    private static final int DEFAULT_CACHE_CAPACITY = 4;
     private static final NotificationOptions EMPTY_OPTIONS = NotificationOptions.builder().build();
 
-    private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
-    private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+
+    // Only needed if the runtime type of an event contains a type variable
+    private volatile HierarchyDiscovery injectionPointTypeHierarchy;
 
     private transient volatile Notifier<? super T> lastNotifier;
 
     EventImpl(Type eventType, Set<Annotation> qualifiers) {
-        this.eventType = initEventType(eventType);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
+        this(initEventType(eventType), addAny(qualifiers), null);
+    }
+
+    private EventImpl(Type eventType, Set<Annotation> qualifiers, HierarchyDiscovery injectionPointTypeHierarchy) {
+        this.eventType = eventType;
         this.qualifiers = qualifiers;
-        this.qualifiers.add(Any.Literal.INSTANCE);
-        this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.injectionPointTypeHierarchy = injectionPointTypeHierarchy;
     }
 
     @Override
@@ -81,6 +82,11 @@ class EventImpl<T> implements Event<T> {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        AsyncEventDeliveryImpl delivery = ArcContainerImpl.unwrap(Arc.container()).getAsyncEventDelivery();
+        if (delivery != null) {
+            return delivery.deliver(event, notifier, options.getExecutor());
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -95,33 +101,45 @@ class EventImpl<T> implements Event<T> {
         return new AsyncEventDeliveryStage<>(completableFuture, executor);
     }
 
+    @SuppressWarnings("unchecked")
     private Notifier<? super T> getNotifier(Class<?> runtimeType) {
         Notifier<? super T> notifier = this.lastNotifier;
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        // Notifiers are shared by all event instances with the same type and qualifiers
+        ArcContainerImpl container = ArcContainerImpl.unwrap(Arc.container());
+        notifier = (Notifier<? super T>) container.getNotifier(runtimeType, eventType, qualifiers, this::createNotifier);
+        return this.lastNotifier = notifier;
     }
 
     @Override
     public Event<T> select(Annotation... qualifiers) {
-        Set<Annotation> mergedQualifiers = new HashSet<>(this.qualifiers);
-        Collections.addAll(mergedQualifiers, qualifiers);
-        return new EventImpl<T>(eventType, mergedQualifiers);
+        if (qualifiers.length == 0) {
+            // Nothing to merge - this instance is immutable
+            return this;
+        }
+        return new EventImpl<T>(eventType, mergeQualifiers(qualifiers), injectionPointTypeHierarchy);
     }
 
     @Override
     public <U extends T> Event<U> select(Class<U> subtype, Annotation... qualifiers) {
-        Set<Annotation> mergerdQualifiers = new HashSet<>(this.qualifiers);
-        Collections.addAll(mergerdQualifiers, qualifiers);
-        return new EventImpl<U>(subtype, mergerdQualifiers);
+        return new EventImpl<U>(initEventType(subtype), mergeQualifiers(qualifiers), null);
     }
 
     @Override
     public <U extends T> Event<U> select(TypeLiteral<U> subtype, Annotation... qualifiers) {
-        Set<Annotation> mergerdQualifiers = new HashSet<>(this.qualifiers);
-        Collections.addAll(mergerdQualifiers, qualifiers);
-        return new EventImpl<U>(subtype.getType(), mergerdQualifiers);
+        return new EventImpl<U>(initEventType(subtype.getType()), mergeQualifiers(qualifiers), null);
+    }
+
+    private Set<Annotation> mergeQualifiers(Annotation... qualifiers) {
+        if (qualifiers.length == 0) {
+            // The set of qualifiers is never modified and can be shared
+            return this.qualifiers;
+        }
+        Set<Annotation> mergedQualifiers = new HashSet<>(this.qualifiers);
+        Collections.addAll(mergedQualifiers, qualifiers);
+        return mergedQualifiers;
     }
 
     private Notifier<? super T> createNotifier(Class<?> runtimeType) {
@@ -131,15 +149,31 @@ class EventImpl<T> implements Event<T> {
 
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
             ArcContainerImpl container) {
-        EventMetadata metadata = new EventMetadataImpl(qualifiers, eventType);
-        List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>();
-        for (ObserverMethod<? super T> observerMethod : container.resolveObservers(eventType, qualifiers)) {
-            notifierObserverMethods.add(observerMethod);
+        List<InjectableObserverMethod<? super T>> observers = container.resolveObservers(eventType, qualifiers);
+        if (observers.isEmpty()) {
+            // No observers - the metadata are never used
+            return new Notifier<T>(runtimeType, Collections.emptyList(), null);
         }
-        return new Notifier<>(runtimeType, notifierObserverMethods, metadata);
+        List<ObserverMethod<? super T>> observerMethods = new ArrayList<>(observers);
+        return new Notifier<T>(runtimeType, observerMethods, new EventMetadataImpl(qualifiers, eventType));
     }
 
-    private Type initEventType(Type type) {
+    private static Set<Annotation> addAny(Set<Annotation> qualifiers) {
+        qualifiers.add(Any.Literal.INSTANCE);
+        return qualifiers;
+    }
+
+    private HierarchyDiscovery getInjectionPointTypeHierarchy() {
+        HierarchyDiscovery hierarchy = this.injectionPointTypeHierarchy;
+        if (hierarchy == null) {
+            // Races are harmless - the result is always the same
+            hierarchy = new HierarchyDiscovery(eventType);
+            this.injectionPointTypeHierarchy = hierarchy;
+        }
+        return hierarchy;
+    }
+
+    private static Type initEventType(Type type) {
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
             if (Event.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
@@ -157,7 +191,7 @@ class EventImpl<T> implements Event<T> {
              * infer the parameterized type of
              * the event types.
              */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+            resolvedType = getInjectionPointTypeHierarchy().resolveType(resolvedType);
         }
         if (Types.containsTypeVariable(resolvedType)) {
             /*
@@ -167,14 +201,14 @@ class EventImpl<T> implements Event<T> {
              */
             Type canonicalEventType = Types.getCanonicalType(runtimeType);
             TypeResolver objectTypeResolver = new EventObjectTypeResolverBuilder(
-                    injectionPointTypeHierarchy.getResolver().getResolvedTypeVariables(),
+                    getInjectionPointTypeHierarchy().getResolver().getResolvedTypeVariables(),
                     new HierarchyDiscovery(canonicalEventType).getResolver().getResolvedTypeVariables()).build();
             resolvedType = objectTypeResolver.resolveType(canonicalEventType);
         }
         return resolvedType;
     }
 
-    private void handleExceptions(ObserverExceptionHandler handler) {
+    static void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
         if (!handledExceptions.isEmpty()) {
             CompletionException exception = null;
@@ -210,22 +244,28 @@ class EventImpl<T> implements Event<T> {
 
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
             if (!isEmpty()) {
-                ManagedContext requestContext = Arc.container().requestContext();
-                if (requestContext.isActive()) {
-                    notifyObservers(event, exceptionHandler, async);
-                } else {
-                    try {
-                        requestContext.activate();
-                        notifyObservers(event, exceptionHandler, async);
-                    } finally {
-                        requestContext.terminate();
-                    }
+                notify(event, exceptionHandler, async, observerMethods);
+            }
+        }
+
+        void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async,
+                List<ObserverMethod<? super T>> observerMethods) {
+            ManagedContext requestContext = Arc.container().requestContext();
+            if (requestContext.isActive()) {
+                notifyObservers(event, exceptionHandler, async, observerMethods);
+            } else {
+                try {
+                    requestContext.activate();
+                    notifyObservers(event, exceptionHandler, async, observerMethods);
+                } finally {
+                    requestContext.terminate();
                 }
             }
         }
 
         @SuppressWarnings({ "rawtypes", "unchecked" })
-        private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
+        private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler, boolean async,
+                List<ObserverMethod<? super T>> observerMethods) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
             for (ObserverMethod<? super T> observerMethod : observerMethods) {
                 if (observerMethod.isAsync() == async) {
@@ -238,6 +278,10 @@ class EventImpl<T> implements Event<T> {
             }
         }
 
+        List<ObserverMethod<? super T>> getObserverMethods() {
+            return observerMethods;
+        }
+
         boolean isEmpty() {
             return observerMethods.isEmpty();
         }
@@ -6,11 +6,15 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
@@ -32,13 +36,21 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<ContextInstances> currentContext = new ThreadLocal<>();
+
+    // The number of beans with an index assigned at build time, see InjectableBean#getContextIndex()
+    private final int size;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
     public RequestContext() {
+        this(0);
+    }
+
+    RequestContext(int size) {
+        this.size = size;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,7 +67,7 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -82,7 +94,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -96,7 +108,7 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new ContextInstances(size));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -110,7 +122,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -125,29 +137,27 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy() {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        ContextInstances ctx = currentContext.get();
         if (ctx != null) {
-            synchronized (ctx) {
-                // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
-                try {
-                    fireIfNotEmpty(beforeDestroyedNotifier);
-                } catch (Exception e) {
-                    LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
-                }
-                for (InstanceHandle<?> instance : ctx.values()) {
-                    try {
-                        instance.destroy();
-                    } catch (Exception e) {
-                        throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
-                    }
-                }
-                // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
+            // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
+            try {
+                fireIfNotEmpty(beforeDestroyedNotifier);
+            } catch (Exception e) {
+                LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
+            }
+            // Each instance is removed atomically and so it's never destroyed twice
+            for (InstanceHandle<?> instance : ctx.removeAll()) {
                 try {
-                    fireIfNotEmpty(destroyedNotifier);
+                    instance.destroy();
                 } catch (Exception e) {
-                    LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
+                    throw new IllegalStateException("Unable to destroy instance" + instance.get(), e);
                 }
-                ctx.clear();
+            }
+            // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
+            try {
+                fireIfNotEmpty(destroyedNotifier);
+            } catch (Exception e) {
+                LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
             }
         }
     }
@@ -179,18 +189,148 @@ class RequestContext implements ManagedContext {
 
     class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private final ContextInstances value;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
+        RequestContextState(ContextInstances value) {
             this.value = value;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
+            return value.getAll().stream()
                     .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
         }
 
     }
 
+    /**
+     * Instances of beans with an index assigned at build time are stored in an array, other instances are stored in a map.
+     * Both are allocated lazily. The instances may be accessed concurrently if the context state is propagated to another
+     * thread.
+     */
+    static final class ContextInstances {
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<ContextInstances, AtomicReferenceArray> INDEXED_UPDATER;
+
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<ContextInstances, ConcurrentMap> OTHERS_UPDATER;
+
+        static {
+            INDEXED_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ContextInstances.class, AtomicReferenceArray.class,
+                    "indexed");
+            OTHERS_UPDATER = AtomicReferenceFieldUpdater.newUpdater(ContextInstances.class, ConcurrentMap.class, "others");
+        }
+
+        private final int size;
+
+        private volatile AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        ContextInstances(int size) {
+            this.size = size;
+        }
+
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+                return indexed != null ? indexed.get(index) : null;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others != null ? others.get(contextual) : null;
+        }
+
+        void put(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                indexed().set(index, instance);
+            } else {
+                others().put(contextual, instance);
+            }
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+                return indexed != null ? indexed.getAndSet(index, null) : null;
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            return others != null ? others.remove(contextual) : null;
+        }
+
+        List<ContextInstanceHandle<?>> getAll() {
+            List<ContextInstanceHandle<?>> all = new ArrayList<>();
+            AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+            if (indexed != null) {
+                for (int i = 0; i < size; i++) {
+                    ContextInstanceHandle<?> instance = indexed.get(i);
+                    if (instance != null) {
+                        all.add(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                all.addAll(others.values());
+            }
+            return all;
+        }
+
+        List<ContextInstanceHandle<?>> removeAll() {
+            List<ContextInstanceHandle<?>> removed = new ArrayList<>();
+            AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+            if (indexed != null) {
+                for (int i = 0; i < size; i++) {
+                    ContextInstanceHandle<?> instance = indexed.getAndSet(i, null);
+                    if (instance != null) {
+                        removed.add(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others != null) {
+                for (Contextual<?> contextual : others.keySet()) {
+                    ContextInstanceHandle<?> instance = others.remove(contextual);
+                    if (instance != null) {
+                        removed.add(instance);
+                    }
+                }
+            }
+            return removed;
+        }
+
+        private int indexOf(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                InjectableBean<?> bean = (InjectableBean<?>) contextual;
+                int index = bean.getContextIndex();
+                if (index < size && bean.getScope() == RequestScoped.class) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private AtomicReferenceArray<ContextInstanceHandle<?>> indexed() {
+            AtomicReferenceArray<ContextInstanceHandle<?>> indexed = this.indexed;
+            if (indexed == null) {
+                INDEXED_UPDATER.compareAndSet(this, null, new AtomicReferenceArray<>(size));
+                indexed = this.indexed;
+            }
+            return indexed;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others = this.others;
+            if (others == null) {
+                OTHERS_UPDATER.compareAndSet(this, null, new ConcurrentHashMap<>());
+                others = this.others;
+            }
+            return others;
+        }
+
+    }
+
 }
@@ -5,6 +5,10 @@ import javax.inject.Singleton;
 
 class SingletonContext extends AbstractSharedContext {
 
+    SingletonContext(int size) {
+        super(size);
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return Singleton.class;
@@ -0,0 +1,64 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ApplicationScopedClientProxyTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class);
+
+    @Test
+    public void testCachedInstance() {
+        Counter.CREATED.set(0);
+        Counter counter = Arc.container().instance(Counter.class).get();
+        Object instance = ((ClientProxy) counter).arc_contextualInstance();
+        String id = counter.getId();
+        assertEquals(id, counter.getId());
+        assertSame(instance, ((ClientProxy) counter).arc_contextualInstance());
+        assertEquals(1, Counter.CREATED.get());
+
+        // The cached instance must not be used once destroyed
+        InjectableContext context = Arc.container().getActiveContext(ApplicationScoped.class);
+        context.destroy(((ClientProxy) counter).arc_bean());
+        assertNotEquals(id, counter.getId());
+        assertEquals(2, Counter.CREATED.get());
+        id = counter.getId();
+
+        context.destroy();
+        assertNotEquals(id, counter.getId());
+        assertEquals(3, Counter.CREATED.get());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            CREATED.incrementAndGet();
+            id = UUID.randomUUID().toString();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+}
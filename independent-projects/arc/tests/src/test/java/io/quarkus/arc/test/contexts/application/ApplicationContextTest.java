@@ -0,0 +1,114 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ApplicationContextTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class);
+
+    @Test
+    public void testConcurrentCreation() throws InterruptedException, ExecutionException, TimeoutException {
+        Alpha.CREATED.set(0);
+        ArcContainer arc = Arc.container();
+        InjectableBean<Alpha> bean = arc.instance(Alpha.class).getBean();
+        // Application scoped and singleton beans are assigned an index at build time
+        assertEquals(0, bean.getContextIndex());
+        assertEquals(0, arc.instance(Bravo.class).getBean().getContextIndex());
+
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return arc.instance(Alpha.class).get().getId();
+                }));
+            }
+            start.countDown();
+            String id = results.get(0).get(10, TimeUnit.SECONDS);
+            for (Future<String> result : results) {
+                assertEquals(id, result.get(10, TimeUnit.SECONDS));
+            }
+            assertEquals(1, Alpha.CREATED.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDestroy() {
+        Alpha.DESTROYED.set(0);
+        ArcContainer arc = Arc.container();
+        InjectableBean<Alpha> bean = arc.instance(Alpha.class).getBean();
+        InjectableContext context = arc.getActiveContext(ApplicationScoped.class);
+        String id = arc.instance(Alpha.class).get().getId();
+        assertTrue(context.getState().getContextualInstances().containsKey(bean));
+        context.destroy(bean);
+        assertEquals(1, Alpha.DESTROYED.get());
+        assertNull(context.get(bean));
+        assertNotEquals(id, arc.instance(Alpha.class).get().getId());
+        context.destroy();
+        assertEquals(2, Alpha.DESTROYED.get());
+        assertTrue(context.getState().getContextualInstances().isEmpty());
+    }
+
+    @ApplicationScoped
+    static class Alpha {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        @PostConstruct
+        void init() {
+            CREATED.incrementAndGet();
+            id = UUID.randomUUID().toString();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        String getId() {
+            return id;
+        }
+
+    }
+
+    @Singleton
+    static class Bravo {
+
+    }
+
+}
@@ -68,6 +68,28 @@ public class RequestContextTest {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testContextIndex() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        // Request scoped beans are assigned an index at build time
+        assertEquals(0, arc.instance(Controller.class).getBean().getContextIndex());
+        // The indexes are assigned per scope
+        assertTrue(arc.instance(ControllerClient.class).getBean().getContextIndex() >= 0);
+
+        Controller.DESTROYED.set(false);
+        requestContext.activate();
+        try {
+            String id = arc.instance(Controller.class).get().getId();
+            // Destroy the instance explicitly
+            requestContext.destroy(arc.instance(Controller.class).getBean());
+            assertTrue(Controller.DESTROYED.get());
+            assertNotEquals(id, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
     @Test
     public void testRequestContextController() {
         Controller.DESTROYED.set(false);
@@ -0,0 +1,141 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SharedInvocationContextTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class, Retry.class, AsyncBean.class, RetryInterceptor.class,
+            CountingInterceptor.class);
+
+    @Test
+    public void testProceedMultipleTimes() {
+        assertEquals("alpha:bravo:ok|bravo:ok", Arc.container().instance(SimpleBean.class).get().foo());
+        assertSame(AlphaInterceptor.context, BravoInterceptor.context);
+        assertEquals(2, BravoInterceptor.context.getContextData().get("bravo"));
+    }
+
+    @Test
+    public void testAsyncProceedAfterSyncProceed() throws Exception {
+        CountingInterceptor.COUNTER.set(0);
+        assertEquals("ok",
+                Arc.container().instance(AsyncBean.class).get().foo().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        // The async retry continues after the retry interceptor, not after the deepest interceptor invoked
+        assertEquals(2, CountingInterceptor.COUNTER.get());
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String foo() {
+            return "ok";
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        static InvocationContext context;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            context = ctx;
+            // Proceed twice, e.g. to retry the invocation
+            return "alpha:" + ctx.proceed() + "|" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        static InvocationContext context;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            context = ctx;
+            ctx.getContextData().merge("bravo", 1, (v1, v2) -> (Integer) v1 + (Integer) v2);
+            return "bravo:" + ctx.proceed();
+        }
+    }
+
+    @Singleton
+    static class AsyncBean {
+
+        @Retry
+        CompletionStage<String> foo() {
+            return CompletableFuture.completedFuture("ok");
+        }
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    public @interface Retry {
+
+    }
+
+    @Retry
+    @Priority(1)
+    @Interceptor
+    public static class RetryInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            ctx.proceed();
+            // Proceed again asynchronously, e.g. to retry the invocation
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ctx.proceed();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            }).thenCompose(r -> (CompletionStage<?>) r);
+        }
+    }
+
+    @Retry
+    @Priority(2)
+    @Interceptor
+    public static class CountingInterceptor {
+
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            COUNTER.incrementAndGet();
+            return ctx.proceed();
+        }
+    }
+
+}
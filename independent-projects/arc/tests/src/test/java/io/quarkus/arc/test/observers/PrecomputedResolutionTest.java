@@ -0,0 +1,98 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.Priority;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Any;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class PrecomputedResolutionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(MyQualifier.class, Producer.class, Observer.class);
+
+    @Test
+    public void testObservers() {
+        Producer producer = Arc.container().instance(Producer.class).get();
+        Observer observer = Arc.container().instance(Observer.class).get();
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        try {
+            assertEquals("request", String.join(",", observer.getEvents()));
+            observer.getEvents().clear();
+            producer.event.fire(new Ping());
+            producer.qualifiedEvent.fire(new Ping());
+            // Runtime class not known at build time
+            producer.event.fire(new Ping() {
+            });
+            assertEquals("first,unqualified,any,first,unqualified,qualified,any,first,unqualified,any",
+                    String.join(",", observer.getEvents()));
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Dependent
+    static class Producer {
+
+        @Inject
+        Event<Ping> event;
+
+        @MyQualifier
+        @Inject
+        Event<Ping> qualifiedEvent;
+
+    }
+
+    @Singleton
+    static class Observer {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+
+        void observeAny(@Observes @Any Ping ping) {
+            events.add("any");
+        }
+
+        void observeUnqualified(@Observes @Priority(10) Ping ping) {
+            events.add("unqualified");
+        }
+
+        void observeQualified(@Observes @Priority(20) @MyQualifier Ping ping) {
+            events.add("qualified");
+        }
+
+        void observeFirst(@Observes @Priority(1) Object ping) {
+            if (ping instanceof Ping) {
+                events.add("first");
+            }
+        }
+
+        void observeRequestInitialized(@Observes @Initialized(RequestScoped.class) Object event) {
+            events.add("request");
+        }
+
+        List<String> getEvents() {
+            return events;
+        }
+
+    }
+
+    static class Ping {
+
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.quarkus.arc.test.observers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.PostConstruct;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SelectedEventTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(MyQualifier.class, NumberProducer.class,
+            NumberObserver.class);
+
+    @Test
+    public void testSelect() {
+        NumberProducer producer = Arc.container().instance(NumberProducer.class).get();
+        NumberObserver observer = Arc.container().instance(NumberObserver.class).get();
+        assertSame(producer.event, producer.event.select());
+        for (int i = 0; i < 3; i++) {
+            producer.event.fire(1l);
+            producer.event.select(new MyQualifierLiteral()).fire(.1);
+            producer.event.select(Long.class, new MyQualifierLiteral()).fire(2l);
+            producer.event.select(String.class).fire("foo");
+        }
+        assertEquals(9, observer.getNumbers().size());
+        assertEquals(6, observer.getQualifiedNumbers().size());
+        assertEquals(.1, observer.getQualifiedNumbers().get(0));
+        assertEquals(2l, observer.getQualifiedNumbers().get(1));
+    }
+
+    @Singleton
+    static class NumberObserver {
+
+        private List<Number> numbers;
+        private List<Number> qualifiedNumbers;
+
+        @PostConstruct
+        void init() {
+            numbers = new CopyOnWriteArrayList<>();
+            qualifiedNumbers = new CopyOnWriteArrayList<>();
+        }
+
+        void observeNumber(@Observes Number value) {
+            numbers.add(value);
+        }
+
+        void observeQualifiedNumber(@Observes @MyQualifier Number value) {
+            qualifiedNumbers.add(value);
+        }
+
+        List<Number> getNumbers() {
+            return numbers;
+        }
+
+        List<Number> getQualifiedNumbers() {
+            return qualifiedNumbers;
+        }
+
+    }
+
+    @Dependent
+    static class NumberProducer {
+
+        @Inject
+        Event<Object> event;
+
+    }
+
+    @SuppressWarnings("serial")
+    static class MyQualifierLiteral extends AnnotationLiteral<MyQualifier> implements MyQualifier {
+
+    }
+
+}
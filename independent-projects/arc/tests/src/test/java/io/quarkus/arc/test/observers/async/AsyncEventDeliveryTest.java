@@ -0,0 +1,168 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncEventDelivery;
+import io.quarkus.arc.AsyncEventDelivery.OverflowPolicy;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import javax.annotation.PostConstruct;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class AsyncEventDeliveryTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producer.class, StringObserver.class);
+
+    @Test
+    public void testOverflow() throws InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AsyncEventDelivery delivery = AsyncEventDelivery.builder().executor(executor).maxPending(1).build();
+            Arc.setAsyncEventDelivery(delivery);
+            Producer producer = Arc.container().instance(Producer.class).get();
+            // Block the executor thread
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            CompletionStage<String> first = producer.event.fireAsync("first");
+            CompletionStage<String> second = producer.event.fireAsync("second");
+            assertEquals(1, delivery.getPending());
+            try {
+                second.toCompletableFuture().get(10, TimeUnit.SECONDS);
+                fail();
+            } catch (ExecutionException expected) {
+                assertTrue(expected.getCause() instanceof RejectedExecutionException);
+            }
+            latch.countDown();
+            assertEquals("first", first.toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertEquals(1, delivery.getOverflowed());
+            assertEquals(1, delivery.getDelivered());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCallerRuns() throws InterruptedException, ExecutionException, TimeoutException {
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Arc.setAsyncEventDelivery(AsyncEventDelivery.builder().executor(executor).maxPending(1)
+                    .overflowPolicy(OverflowPolicy.CALLER_RUNS).build());
+            Producer producer = Arc.container().instance(Producer.class).get();
+            StringObserver observer = Arc.container().instance(StringObserver.class).get();
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            producer.event.fireAsync("first");
+            assertEquals("second", producer.event.fireAsync("second").toCompletableFuture().get(10, TimeUnit.SECONDS));
+            assertEquals(1, observer.getEvents().size());
+            assertEquals("second::" + Thread.currentThread().getName(), observer.getEvents().get(0));
+            latch.countDown();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOrdering() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Arc.setAsyncEventDelivery(AsyncEventDelivery.builder().executor(executor)
+                    .orderingKey(event -> event.toString().substring(0, 1)).build());
+            Producer producer = Arc.container().instance(Producer.class).get();
+            StringObserver observer = Arc.container().instance(StringObserver.class).get();
+            List<CompletionStage<String>> stages = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                stages.add(producer.event.fireAsync("a" + i));
+                stages.add(producer.event.fireAsync("b" + i));
+            }
+            for (CompletionStage<String> stage : stages) {
+                stage.toCompletableFuture().get(10, TimeUnit.SECONDS);
+            }
+            List<String> a = new ArrayList<>();
+            List<String> b = new ArrayList<>();
+            for (String event : observer.getEvents()) {
+                (event.startsWith("a") ? a : b).add(event.substring(0, event.indexOf(':')));
+            }
+            for (int i = 0; i < 20; i++) {
+                assertEquals("a" + i, a.get(i));
+                assertEquals("b" + i, b.get(i));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testObserverExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "dedicated"));
+        try {
+            Arc.setAsyncEventDelivery(AsyncEventDelivery.builder()
+                    .observerExecutor(o -> o.getBeanClass().equals(StringObserver.class), executor).build());
+            Producer producer = Arc.container().instance(Producer.class).get();
+            StringObserver observer = Arc.container().instance(StringObserver.class).get();
+            producer.event.fireAsync("foo").toCompletableFuture().get(10, TimeUnit.SECONDS);
+            assertEquals("foo::dedicated", observer.getEvents().get(0));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Singleton
+    static class StringObserver {
+
+        private List<String> events;
+
+        @PostConstruct
+        void init() {
+            events = new CopyOnWriteArrayList<>();
+        }
+
+        void observeAsync(@ObservesAsync String value) {
+            events.add(value + "::" + Thread.currentThread().getName());
+        }
+
+        List<String> getEvents() {
+            return events;
+        }
+
+    }
+
+    @Singleton
+    static class Producer {
+
+        @Inject
+        Event<String> event;
+
+    }
+
+}
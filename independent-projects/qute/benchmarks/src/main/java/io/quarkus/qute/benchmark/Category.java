@@ -0,0 +1,23 @@
+package io.quarkus.qute.benchmark;
+
+import java.util.List;
+
+public class Category {
+
+    private final String name;
+    private final List<Item> items;
+
+    public Category(String name, List<Item> items) {
+        this.name = name;
+        this.items = items;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+}
@@ -0,0 +1,63 @@
+package io.quarkus.qute.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Representative data and templates shared by the benchmarks.
+ */
+final class Datasets {
+
+    /**
+     * A product listing with nested loops and conditions.
+     */
+    static final String LISTING = "<html>\n"
+            + "<body>\n"
+            + "{#for category in categories}\n"
+            + "<h2>{category.name}</h2>\n"
+            + "<ul>\n"
+            + "  {#for item in category.items}\n"
+            + "  {#if item.active}\n"
+            + "  <li class=\"{indexParity}\">{count}. {item.name} - {item.price}\n"
+            + "    {#each item.tags}<span>{it}</span>{/each}\n"
+            + "  </li>\n"
+            + "  {#else}\n"
+            + "  <li class=\"inactive\">{item.name}</li>\n"
+            + "  {/if}\n"
+            + "  {/for}\n"
+            + "</ul>\n"
+            + "{/for}\n"
+            + "</body>\n"
+            + "</html>\n";
+
+    private Datasets() {
+    }
+
+    static List<Category> categories(int categories, int itemsPerCategory) {
+        List<Category> result = new ArrayList<>(categories);
+        for (int i = 0; i < categories; i++) {
+            List<Item> items = new ArrayList<>(itemsPerCategory);
+            for (int j = 0; j < itemsPerCategory; j++) {
+                items.add(new Item("Item <" + i + "-" + j + ">", j * 10, j % 5 != 0,
+                        Arrays.asList("new", "sale & discount", "tag" + j)));
+            }
+            result.add(new Category("Category " + i, items));
+        }
+        return result;
+    }
+
+    /**
+     *
+     * @param sections
+     * @return a large template consisting of the given number of listing sections
+     */
+    static String largeTemplate(int sections) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < sections; i++) {
+            builder.append("<!-- section ").append(i).append(" -->\n").append(LISTING);
+        }
+        return builder.toString();
+    }
+
+}
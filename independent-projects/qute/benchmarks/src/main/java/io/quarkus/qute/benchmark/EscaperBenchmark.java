@@ -0,0 +1,95 @@
+package io.quarkus.qute.benchmark;
+
+import io.quarkus.qute.Escaper;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the table-driven {@link Escaper} with the original {@link HashMap}-based implementation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EscaperBenchmark {
+
+    @Param({ "plain", "sparse", "dense", "unicode" })
+    public String input;
+
+    private String value;
+    private Escaper escaper;
+    private HashMapEscaper hashMapEscaper;
+    private StringBuilder target;
+
+    @Setup
+    public void setup() {
+        Map<Character, String> replacements = new HashMap<>();
+        replacements.put('"', "&quot;");
+        replacements.put('\'', "&#39;");
+        replacements.put('&', "&amp;");
+        replacements.put('<', "&lt;");
+        replacements.put('>', "&gt;");
+        Escaper.Builder builder = Escaper.builder();
+        replacements.forEach(builder::add);
+        escaper = builder.build();
+        hashMapEscaper = new HashMapEscaper(replacements);
+        target = new StringBuilder(1024);
+        value = createValue(input);
+    }
+
+    @Benchmark
+    public String hashMap() {
+        return hashMapEscaper.escape(value);
+    }
+
+    @Benchmark
+    public String table() {
+        return escaper.escape(value);
+    }
+
+    @Benchmark
+    public int tableAppendable() throws IOException {
+        target.setLength(0);
+        escaper.escape(value, target);
+        return target.length();
+    }
+
+    static String createValue(String input) {
+        switch (input) {
+            case "plain":
+                return repeat("The quick brown fox jumps over the lazy dog. ", 10);
+            case "sparse":
+                return repeat("The quick brown fox jumps over the \"lazy\" dog & cat. ", 10);
+            case "dense":
+                return repeat("<a href='#'>&link</a>", 20);
+            case "unicode":
+                return repeat("Příliš žluťoučký kůň úpěl ďábelské ódy <b>", 10);
+            default:
+                throw new IllegalArgumentException(input);
+        }
+    }
+
+    static String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder(value.length() * times);
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.quarkus.qute.benchmark;
+
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.qute.ValueResolver;
+import io.quarkus.qute.generator.ValueResolverGenerator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Generates value resolvers with {@link ValueResolverGenerator} and defines them in an in-memory class loader.
+ */
+final class GeneratedResolvers {
+
+    private GeneratedResolvers() {
+    }
+
+    static List<ValueResolver> generate(Class<?>... classes) {
+        Map<String, byte[]> generated = new HashMap<>();
+        ClassOutput classOutput = (name, data) -> generated.put(name.replace('/', '.'), data);
+        Index index = index(classes);
+        ValueResolverGenerator generator = ValueResolverGenerator.builder().setIndex(index).setClassOutput(classOutput)
+                .setUncontrolled(Collections.emptyMap()).build();
+        for (Class<?> clazz : classes) {
+            generator.generate(index.getClassByName(DotName.createSimple(clazz.getName())));
+        }
+        GeneratedClassLoader classLoader = new GeneratedClassLoader(GeneratedResolvers.class.getClassLoader(), generated);
+        List<ValueResolver> resolvers = new ArrayList<>();
+        for (String type : generator.getGeneratedTypes()) {
+            try {
+                resolvers.add((ValueResolver) classLoader.loadClass(type.replace('/', '.')).newInstance());
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException("Unable to create resolver: " + type, e);
+            }
+        }
+        return resolvers;
+    }
+
+    private static Index index(Class<?>... classes) {
+        Indexer indexer = new Indexer();
+        for (Class<?> clazz : classes) {
+            try (InputStream stream = GeneratedResolvers.class.getClassLoader()
+                    .getResourceAsStream(clazz.getName().replace('.', '/') + ".class")) {
+                indexer.index(stream);
+            } catch (IOException e) {
+                throw new IllegalStateException("Unable to index: " + clazz, e);
+            }
+        }
+        return indexer.complete();
+    }
+
+    static final class GeneratedClassLoader extends ClassLoader {
+
+        private final Map<String, byte[]> classes;
+
+        GeneratedClassLoader(ClassLoader parent, Map<String, byte[]> classes) {
+            super(parent);
+            this.classes = classes;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            byte[] data = classes.get(name);
+            if (data == null) {
+                throw new ClassNotFoundException(name);
+            }
+            return defineClass(name, data, 0, data.length);
+        }
+
+    }
+
+}
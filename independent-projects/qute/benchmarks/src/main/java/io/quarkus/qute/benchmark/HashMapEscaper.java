@@ -0,0 +1,44 @@
+package io.quarkus.qute.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The original {@link io.quarkus.qute.Escaper} implementation backed by a {@link HashMap}, used as a baseline.
+ */
+final class HashMapEscaper {
+
+    private final Map<Character, String> replacements;
+
+    HashMapEscaper(Map<Character, String> replacements) {
+        this.replacements = new HashMap<>(replacements);
+    }
+
+    String escape(CharSequence value) {
+        if (value.length() == 0) {
+            return value.toString();
+        }
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = replacements.get(value.charAt(i));
+            if (replacement != null) {
+                return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
+            }
+        }
+        return value.toString();
+    }
+
+    private String doEscape(CharSequence value, int index, StringBuilder builder) {
+        int length = value.length();
+        while (++index < length) {
+            char c = value.charAt(index);
+            String replacement = replacements.get(c);
+            if (replacement != null) {
+                builder.append(replacement);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+}
@@ -0,0 +1,35 @@
+package io.quarkus.qute.benchmark;
+
+import java.util.List;
+
+public class Item {
+
+    private final String name;
+    private final int price;
+    private final boolean active;
+    private final List<String> tags;
+
+    public Item(String name, int price, boolean active, List<String> tags) {
+        this.name = name;
+        this.price = price;
+        this.active = active;
+        this.tags = tags;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getPrice() {
+        return price;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+}
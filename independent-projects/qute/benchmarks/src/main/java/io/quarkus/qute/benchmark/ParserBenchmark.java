@@ -0,0 +1,46 @@
+package io.quarkus.qute.benchmark;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of large templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParserBenchmark {
+
+    @Param({ "1", "10", "100" })
+    public int sections;
+
+    private Engine engine;
+    private String content;
+
+    @Setup
+    public void setup() {
+        engine = Engine.builder().addDefaults().build();
+        content = Datasets.largeTemplate(sections);
+    }
+
+    @Benchmark
+    public Template parse() {
+        return engine.parse(content);
+    }
+
+}
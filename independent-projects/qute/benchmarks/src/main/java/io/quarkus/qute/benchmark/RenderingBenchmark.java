@@ -0,0 +1,84 @@
+package io.quarkus.qute.benchmark;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.Escaper;
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.RawString;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.ResultMapper;
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateNode.Origin;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the rendering of nested {@code for}/{@code each} and {@code if} sections, optionally with HTML escaping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderingBenchmark {
+
+    @Param({ "1", "10", "50" })
+    public int categoriesCount;
+
+    @Param({ "false", "true" })
+    public boolean escape;
+
+    private Template template;
+    private List<Category> categories;
+    private StringBuilder target;
+
+    @Setup
+    public void setup() {
+        EngineBuilder builder = Engine.builder().addDefaults().addValueResolver(new ReflectionValueResolver());
+        if (escape) {
+            // The same escaping rules as used for HTML templates in Quarkus
+            Escaper htmlEscaper = Escaper.builder().add('"', "&quot;").add('\'', "&#39;")
+                    .add('&', "&amp;").add('<', "&lt;").add('>', "&gt;").build();
+            builder.addResultMapper(new ResultMapper() {
+
+                @Override
+                public boolean appliesTo(Origin origin, Object result) {
+                    return !(result instanceof RawString);
+                }
+
+                @Override
+                public String map(Object result, Expression expression) {
+                    return htmlEscaper.escape(result.toString());
+                }
+            });
+        }
+        template = builder.build().parse(Datasets.LISTING);
+        categories = Datasets.categories(categoriesCount, 20);
+        target = new StringBuilder(64 * 1024);
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("categories", categories).render();
+    }
+
+    @Benchmark
+    public int renderTo() {
+        target.setLength(0);
+        template.data("categories", categories).renderTo(target);
+        return target.length();
+    }
+
+}
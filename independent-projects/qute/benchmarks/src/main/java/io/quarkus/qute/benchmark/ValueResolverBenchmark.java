@@ -0,0 +1,55 @@
+package io.quarkus.qute.benchmark;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.EngineBuilder;
+import io.quarkus.qute.ReflectionValueResolver;
+import io.quarkus.qute.Template;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the {@link ReflectionValueResolver} with the resolvers generated by the {@code ValueResolverGenerator}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueResolverBenchmark {
+
+    @Param({ "reflection", "generated" })
+    public String resolver;
+
+    private Template template;
+    private List<Category> categories;
+
+    @Setup
+    public void setup() {
+        EngineBuilder builder = Engine.builder().addDefaults();
+        if ("generated".equals(resolver)) {
+            GeneratedResolvers.generate(Category.class, Item.class).forEach(builder::addValueResolver);
+        } else {
+            builder.addValueResolver(new ReflectionValueResolver());
+        }
+        template = builder.build().parse(Datasets.LISTING);
+        categories = Datasets.categories(10, 20);
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("categories", categories).render();
+    }
+
+}
@@ -0,0 +1,137 @@
+package io.quarkus.qute;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of asynchronous resolutions in progress, i.e. resolutions that did not complete immediately.
+ * <p>
+ * If the limit is reached a throttled resolution is queued and started on the executor once another asynchronous
+ * resolution completes. Any other resolution is never queued but it is counted if it does not complete immediately. A
+ * nested resolution, i.e. a resolution that is part of the evaluation of another resolution, must not be throttled because
+ * the parent resolution would never complete otherwise. Also a resolution that is known to be synchronous should not be
+ * throttled because it would only wait for a permit it does not need.
+ */
+class AsyncResolutionLimiter {
+
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final AtomicInteger inProgress;
+    private final Queue<Task> queue;
+
+    AsyncResolutionLimiter(Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("The max concurrency must be greater than zero: " + maxConcurrency);
+        }
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.inProgress = new AtomicInteger();
+        this.queue = new ConcurrentLinkedQueue<>();
+    }
+
+    /**
+     * 
+     * @param resolution
+     * @param throttle {@code true} if the resolution may be queued if the limit is reached
+     * @return the result
+     */
+    CompletionStage<Object> submit(Supplier<CompletionStage<Object>> resolution, boolean throttle) {
+        if (!throttle) {
+            CompletionStage<Object> result = resolution.get();
+            if (!CompletedStage.isCompleted(result)) {
+                inProgress.incrementAndGet();
+                result.whenComplete((r, t) -> release());
+            }
+            return result;
+        }
+        if (tryAcquire()) {
+            return start(resolution);
+        }
+        Task task = new Task(resolution);
+        queue.add(task);
+        drain();
+        return task.result;
+    }
+
+    int getQueueSize() {
+        return queue.size();
+    }
+
+    private CompletionStage<Object> start(Supplier<CompletionStage<Object>> resolution) {
+        CompletionStage<Object> result;
+        try {
+            result = resolution.get();
+        } catch (Throwable e) {
+            release();
+            throw e;
+        }
+        if (CompletedStage.isCompleted(result)) {
+            // Sync resolution - release the permit immediately
+            release();
+        } else {
+            result.whenComplete((r, t) -> release());
+        }
+        return result;
+    }
+
+    private boolean tryAcquire() {
+        int current;
+        do {
+            current = inProgress.get();
+            if (current >= maxConcurrency) {
+                return false;
+            }
+        } while (!inProgress.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private void release() {
+        inProgress.decrementAndGet();
+        drain();
+    }
+
+    private void drain() {
+        while (!queue.isEmpty() && tryAcquire()) {
+            Task task = queue.poll();
+            if (task == null) {
+                // Another thread was faster
+                inProgress.decrementAndGet();
+            } else {
+                executor.execute(task);
+            }
+        }
+    }
+
+    private class Task implements Runnable {
+
+        private final Supplier<CompletionStage<Object>> resolution;
+        private final CompletableFuture<Object> result;
+
+        Task(Supplier<CompletionStage<Object>> resolution) {
+            this.resolution = resolution;
+            this.result = new CompletableFuture<>();
+        }
+
+        @Override
+        public void run() {
+            try {
+                start(resolution).whenComplete((r, t) -> {
+                    if (t != null) {
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(r);
+                    }
+                });
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+
+    }
+
+}
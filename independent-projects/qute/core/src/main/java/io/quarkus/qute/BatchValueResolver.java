@@ -0,0 +1,28 @@
+package io.quarkus.qute;
+
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A value resolver that is able to resolve a property of several base objects in one call, e.g. to avoid N+1 remote
+ * lookups in a loop.
+ * <p>
+ * Before a loop section is rendered, the engine collects all the properties of the iteration element used in the
+ * section content, e.g. {@code price} for <code>{#for item in items}{item.price}{/for}</code>, and calls
+ * {@link #resolveAll(List, String)} for each property. The prefetched values are then used during the resolution of
+ * the iterations, i.e. a value resolver with higher priority that applies to an iteration element still takes
+ * precedence.
+ */
+public interface BatchValueResolver extends ValueResolver {
+
+    /**
+     * The returned list must have the same size as the list of base objects. A {@link Results.Result#NOT_FOUND} element
+     * means that the value for the given base object should be resolved in the usual way.
+     * 
+     * @param bases The loop elements
+     * @param name The property name
+     * @return the values in the order of the base objects or {@code null} if this resolver does not apply
+     */
+    CompletionStage<List<Object>> resolveAll(List<Object> bases, String name);
+
+}
@@ -0,0 +1,340 @@
+package io.quarkus.qute;
+
+import io.quarkus.qute.SectionHelperFactory.SectionInitContext;
+import io.quarkus.qute.TemplateNode.Origin;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Caches the rendered content of the main block.
+ * <p>
+ * The cache key consists of the template, the position of the section in the template and the evaluated value of the
+ * optional {@code key} parameter. The entries of a template are removed when the template is removed from or replaced
+ * in the engine. The optional {@code ttl} parameter specifies the time-to-live in milliseconds.
+ *
+ * <pre>
+ * {#cached key=user.locale ttl=60000}
+ *   &lt;nav&gt;...&lt;/nav&gt;
+ * {/cached}
+ * </pre>
+ *
+ * The section is not registered by default, see {@link EngineBuilder#addSectionHelper(SectionHelperFactory)}.
+ *
+ * @see Engine#invalidateCachedSections(BiPredicate)
+ */
+public class CachedSectionHelper implements SectionHelper {
+
+    private static final String CACHED = "cached";
+    private static final String KEY = "key";
+    private static final String TTL = "ttl";
+
+    private final Expression key;
+    private final long ttl;
+    private final String templateId;
+    private final String templateGeneratedId;
+    private final String sectionId;
+    private final Origin origin;
+    private final Cache cache;
+
+    CachedSectionHelper(SectionInitContext context, Cache cache) {
+        this.key = context.hasParameter(KEY) ? context.getExpression(KEY) : null;
+        this.ttl = parseTtl(context);
+        this.origin = context.getBlocks().get(0).origin;
+        this.templateId = origin.getTemplateId();
+        this.templateGeneratedId = origin.getTemplateGeneratedId();
+        this.sectionId = origin.getLine() + ":" + origin.getLineCharacter();
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
+        if (key == null) {
+            return resolve(context, null);
+        }
+        return context.resolutionContext().evaluate(key).thenCompose(k -> resolve(context, k));
+    }
+
+    private CompletionStage<ResultNode> resolve(SectionResolutionContext context, Object keyValue) {
+        Key key = new Key(templateId, templateGeneratedId, sectionId, keyValue);
+        TextNode cached = cache.get(key);
+        if (cached != null) {
+            return CompletedStage.of(cached);
+        }
+        return context.execute().thenApply(result -> {
+            StringBuilder builder = new StringBuilder();
+            result.process(builder::append);
+            // Store the output as a text node so that it's encoded only once
+            TextNode node = new TextNode(builder.toString(), origin);
+            cache.put(key, node, builder.length(), ttl);
+            return node;
+        });
+    }
+
+    private static long parseTtl(SectionInitContext context) {
+        String value = context.getParameter(TTL);
+        if (value == null) {
+            return 0;
+        }
+        try {
+            long ttl = Long.parseLong(value);
+            if (ttl <= 0) {
+                throw context.createParserError("Invalid ttl [" + value + "] - must be a positive number of milliseconds");
+            }
+            return ttl;
+        } catch (NumberFormatException e) {
+            throw context.createParserError("Invalid ttl [" + value + "] - must be a positive number of milliseconds");
+        }
+    }
+
+    public static class Factory implements SectionHelperFactory<CachedSectionHelper> {
+
+        /**
+         * The default maximum weight of the cache, i.e. the total number of characters of the cached content.
+         */
+        public static final long DEFAULT_MAX_WEIGHT = 4 * 1024 * 1024;
+
+        private final Cache cache;
+
+        public Factory() {
+            this(DEFAULT_MAX_WEIGHT);
+        }
+
+        /**
+         *
+         * @param maxWeight The maximum total number of characters of the cached content
+         */
+        public Factory(long maxWeight) {
+            this.cache = new Cache(maxWeight);
+        }
+
+        @Override
+        public List<String> getDefaultAliases() {
+            return ImmutableList.of(CACHED);
+        }
+
+        @Override
+        public ParametersInfo getParameters() {
+            return ParametersInfo.builder().addParameter(new Parameter(KEY, null, true))
+                    .addParameter(new Parameter(TTL, null, true)).build();
+        }
+
+        @Override
+        public CachedSectionHelper initialize(SectionInitContext context) {
+            return new CachedSectionHelper(context, cache);
+        }
+
+        @Override
+        public Map<String, String> initializeBlock(Map<String, String> outerNameTypeInfos, BlockInfo block) {
+            if (block.getLabel().equals(MAIN_BLOCK_NAME) && block.hasParameter(KEY)) {
+                block.addExpression(KEY, block.getParameter(KEY));
+            }
+            return outerNameTypeInfos;
+        }
+
+        public Cache getCache() {
+            return cache;
+        }
+
+    }
+
+    /**
+     * A bounded cache of rendered content.
+     * <p>
+     * The weight of an entry is the number of characters of the content. If the total weight exceeds the limit the
+     * least recently accessed entries are removed. Expired entries are removed when accessed.
+     */
+    public static final class Cache {
+
+        private final long maxWeight;
+        // access-ordered, guarded by this
+        private final LinkedHashMap<Key, Entry> entries;
+        // guarded by this
+        private long weight;
+        private final LongAdder hits;
+        private final LongAdder misses;
+        private final LongAdder evictions;
+
+        Cache(long maxWeight) {
+            if (maxWeight <= 0) {
+                throw new IllegalArgumentException("The max weight must be positive: " + maxWeight);
+            }
+            this.maxWeight = maxWeight;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true);
+            this.hits = new LongAdder();
+            this.misses = new LongAdder();
+            this.evictions = new LongAdder();
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        public long getEvictions() {
+            return evictions.sum();
+        }
+
+        /**
+         *
+         * @return the number of cached entries
+         */
+        public synchronized int size() {
+            return entries.size();
+        }
+
+        /**
+         *
+         * @return the total number of characters of the cached content
+         */
+        public synchronized long getWeight() {
+            return weight;
+        }
+
+        public long getMaxWeight() {
+            return maxWeight;
+        }
+
+        /**
+         * Removes the entries for which the template id and the evaluated key match the given predicate.
+         *
+         * @param test
+         */
+        public void invalidate(BiPredicate<String, Object> test) {
+            removeIf(key -> test.test(key.templateId, key.value));
+        }
+
+        public void invalidateAll() {
+            removeIf(key -> true);
+        }
+
+        /**
+         * Removes the entries of the given template, i.e. of all the sections parsed as part of the template.
+         *
+         * @param templateGeneratedId
+         * @see Template#getGeneratedId()
+         */
+        void invalidateTemplate(String templateGeneratedId) {
+            removeIf(key -> key.templateGeneratedId.equals(templateGeneratedId));
+        }
+
+        private synchronized void removeIf(Predicate<Key> test) {
+            for (Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<Key, Entry> e = it.next();
+                if (test.test(e.getKey())) {
+                    it.remove();
+                    weight -= e.getValue().weight;
+                }
+            }
+        }
+
+        TextNode get(Key key) {
+            TextNode node = null;
+            synchronized (this) {
+                // moves the entry to the end of the access order
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    if (entry.isExpired(System.nanoTime())) {
+                        entries.remove(key);
+                        weight -= entry.weight;
+                    } else {
+                        node = entry.node;
+                    }
+                }
+            }
+            if (node != null) {
+                hits.increment();
+            } else {
+                misses.increment();
+            }
+            return node;
+        }
+
+        void put(Key key, TextNode node, int nodeWeight, long ttl) {
+            if (nodeWeight > maxWeight) {
+                // Never cache content that would evict everything else
+                return;
+            }
+            Entry entry = new Entry(node, nodeWeight, ttl > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttl) : 0);
+            synchronized (this) {
+                Entry previous = entries.put(key, entry);
+                weight += previous != null ? nodeWeight - previous.weight : nodeWeight;
+                // remove the least recently accessed entries
+                Iterator<Entry> it = entries.values().iterator();
+                while (weight > maxWeight) {
+                    Entry eldest = it.next();
+                    it.remove();
+                    weight -= eldest.weight;
+                    evictions.increment();
+                }
+            }
+        }
+
+    }
+
+    static final class Key {
+
+        final String templateId;
+        // a reloaded template has the same id but a different generated id
+        final String templateGeneratedId;
+        final String sectionId;
+        final Object value;
+        private final int hashCode;
+
+        Key(String templateId, String templateGeneratedId, String sectionId, Object value) {
+            this.templateId = templateId;
+            this.templateGeneratedId = templateGeneratedId;
+            this.sectionId = sectionId;
+            this.value = value;
+            this.hashCode = Objects.hash(templateGeneratedId, sectionId, value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return Objects.equals(templateGeneratedId, other.templateGeneratedId) && Objects.equals(sectionId, other.sectionId)
+                    && Objects.equals(value, other.value);
+        }
+
+    }
+
+    static final class Entry {
+
+        final TextNode node;
+        final int weight;
+        final long expireAt;
+
+        Entry(TextNode node, int weight, long expireAt) {
+            this.node = node;
+            this.weight = weight;
+            this.expireAt = expireAt;
+        }
+
+        boolean isExpired(long now) {
+            return expireAt != 0 && now - expireAt >= 0;
+        }
+
+    }
+
+}
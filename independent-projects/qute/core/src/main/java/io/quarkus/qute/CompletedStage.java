@@ -0,0 +1,365 @@
+package io.quarkus.qute;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A lightweight {@link CompletionStage} that is always completed.
+ * <p>
+ * Synchronous dependent stages ({@code thenApply}, {@code thenCompose}, {@code whenComplete}, etc.) are executed
+ * immediately on the calling thread and no {@link CompletableFuture} is allocated. Asynchronous variants and methods
+ * that combine this stage with an arbitrary stage delegate to {@link #toCompletableFuture()}.
+ * <p>
+ * This class is used for values that are already available, e.g. the result of a reflection-based value resolver, so
+ * that templates whose data are held in memory can be rendered without allocating a future per node.
+ *
+ * @param <T>
+ */
+public final class CompletedStage<T> implements CompletionStage<T>, Supplier<T> {
+
+    public static final CompletedStage<Void> VOID = new CompletedStage<>(null, null);
+
+    public static <T> CompletedStage<T> of(T result) {
+        return new CompletedStage<T>(result, null);
+    }
+
+    public static <T> CompletedStage<T> failure(Throwable t) {
+        return new CompletedStage<T>(null, Objects.requireNonNull(t));
+    }
+
+    /**
+     *
+     * @param stage
+     * @return {@code true} if the result of the given stage is available without blocking
+     */
+    public static boolean isCompleted(CompletionStage<?> stage) {
+        if (stage instanceof CompletedStage) {
+            return !((CompletedStage<?>) stage).isFailure();
+        }
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
+    }
+
+    /**
+     * The stage must be completed normally, i.e. {@link #isCompleted(CompletionStage)} must return {@code true}.
+     *
+     * @param stage
+     * @return the result of the given completed stage
+     * @see #isCompleted(CompletionStage)
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T getNow(CompletionStage<? extends T> stage) {
+        if (stage instanceof CompletedStage) {
+            return ((CompletedStage<T>) stage).get();
+        }
+        return ((CompletableFuture<T>) stage).getNow(null);
+    }
+
+    private final T result;
+    private final Throwable exception;
+
+    private CompletedStage(T result, Throwable exception) {
+        this.result = result;
+        this.exception = exception;
+    }
+
+    @Override
+    public T get() {
+        if (exception != null) {
+            throw exception instanceof CompletionException ? (CompletionException) exception
+                    : new CompletionException(exception);
+        }
+        return result;
+    }
+
+    public boolean isFailure() {
+        return exception != null;
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApply(Function<? super T, ? extends U> fn) {
+        if (exception != null) {
+            return failure(exception);
+        }
+        try {
+            return new CompletedStage<>(fn.apply(result), null);
+        } catch (Throwable e) {
+            return failure(wrap(e));
+        }
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn) {
+        return toCompletableFuture().thenApplyAsync(fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenApplyAsync(Function<? super T, ? extends U> fn, Executor executor) {
+        return toCompletableFuture().thenApplyAsync(fn, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> thenAccept(Consumer<? super T> action) {
+        if (exception != null) {
+            return failure(exception);
+        }
+        try {
+            action.accept(result);
+            return VOID;
+        } catch (Throwable e) {
+            return failure(wrap(e));
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action) {
+        return toCompletableFuture().thenAcceptAsync(action);
+    }
+
+    @Override
+    public CompletionStage<Void> thenAcceptAsync(Consumer<? super T> action, Executor executor) {
+        return toCompletableFuture().thenAcceptAsync(action, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> thenRun(Runnable action) {
+        if (exception != null) {
+            return failure(exception);
+        }
+        try {
+            action.run();
+            return VOID;
+        } catch (Throwable e) {
+            return failure(wrap(e));
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(Runnable action) {
+        return toCompletableFuture().thenRunAsync(action);
+    }
+
+    @Override
+    public CompletionStage<Void> thenRunAsync(Runnable action, Executor executor) {
+        return toCompletableFuture().thenRunAsync(action, executor);
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombine(CompletionStage<? extends U> other,
+            BiFunction<? super T, ? super U, ? extends V> fn) {
+        if (exception == null && other instanceof CompletedStage) {
+            CompletedStage<? extends U> otherStage = (CompletedStage<? extends U>) other;
+            if (otherStage.exception == null) {
+                try {
+                    return new CompletedStage<>(fn.apply(result, otherStage.result), null);
+                } catch (Throwable e) {
+                    return failure(wrap(e));
+                }
+            }
+        }
+        return toCompletableFuture().thenCombine(other, fn);
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other,
+            BiFunction<? super T, ? super U, ? extends V> fn) {
+        return toCompletableFuture().thenCombineAsync(other, fn);
+    }
+
+    @Override
+    public <U, V> CompletionStage<V> thenCombineAsync(CompletionStage<? extends U> other,
+            BiFunction<? super T, ? super U, ? extends V> fn, Executor executor) {
+        return toCompletableFuture().thenCombineAsync(other, fn, executor);
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBoth(CompletionStage<? extends U> other,
+            BiConsumer<? super T, ? super U> action) {
+        return toCompletableFuture().thenAcceptBoth(other, action);
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
+            BiConsumer<? super T, ? super U> action) {
+        return toCompletableFuture().thenAcceptBothAsync(other, action);
+    }
+
+    @Override
+    public <U> CompletionStage<Void> thenAcceptBothAsync(CompletionStage<? extends U> other,
+            BiConsumer<? super T, ? super U> action, Executor executor) {
+        return toCompletableFuture().thenAcceptBothAsync(other, action, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBoth(CompletionStage<?> other, Runnable action) {
+        return toCompletableFuture().runAfterBoth(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action) {
+        return toCompletableFuture().runAfterBothAsync(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterBothAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return toCompletableFuture().runAfterBothAsync(other, action, executor);
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEither(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+        return toCompletableFuture().applyToEither(other, fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn) {
+        return toCompletableFuture().applyToEitherAsync(other, fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> applyToEitherAsync(CompletionStage<? extends T> other, Function<? super T, U> fn,
+            Executor executor) {
+        return toCompletableFuture().applyToEitherAsync(other, fn, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEither(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return toCompletableFuture().acceptEither(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action) {
+        return toCompletableFuture().acceptEitherAsync(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> acceptEitherAsync(CompletionStage<? extends T> other, Consumer<? super T> action,
+            Executor executor) {
+        return toCompletableFuture().acceptEitherAsync(other, action, executor);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEither(CompletionStage<?> other, Runnable action) {
+        return toCompletableFuture().runAfterEither(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action) {
+        return toCompletableFuture().runAfterEitherAsync(other, action);
+    }
+
+    @Override
+    public CompletionStage<Void> runAfterEitherAsync(CompletionStage<?> other, Runnable action, Executor executor) {
+        return toCompletableFuture().runAfterEitherAsync(other, action, executor);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <U> CompletionStage<U> thenCompose(Function<? super T, ? extends CompletionStage<U>> fn) {
+        if (exception != null) {
+            return failure(exception);
+        }
+        try {
+            return (CompletionStage<U>) Objects.requireNonNull(fn.apply(result));
+        } catch (Throwable e) {
+            return failure(wrap(e));
+        }
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn) {
+        return toCompletableFuture().thenComposeAsync(fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> thenComposeAsync(Function<? super T, ? extends CompletionStage<U>> fn,
+            Executor executor) {
+        return toCompletableFuture().thenComposeAsync(fn, executor);
+    }
+
+    @Override
+    public CompletionStage<T> exceptionally(Function<Throwable, ? extends T> fn) {
+        if (exception == null) {
+            return this;
+        }
+        try {
+            return new CompletedStage<>(fn.apply(exception), null);
+        } catch (Throwable e) {
+            return failure(wrap(e));
+        }
+    }
+
+    @Override
+    public CompletionStage<T> whenComplete(BiConsumer<? super T, ? super Throwable> action) {
+        try {
+            action.accept(result, exception);
+        } catch (Throwable e) {
+            if (exception == null) {
+                return failure(wrap(e));
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action) {
+        return toCompletableFuture().whenCompleteAsync(action);
+    }
+
+    @Override
+    public CompletionStage<T> whenCompleteAsync(BiConsumer<? super T, ? super Throwable> action, Executor executor) {
+        return toCompletableFuture().whenCompleteAsync(action, executor);
+    }
+
+    @Override
+    public <U> CompletionStage<U> handle(BiFunction<? super T, Throwable, ? extends U> fn) {
+        try {
+            return new CompletedStage<>(fn.apply(result, exception), null);
+        } catch (Throwable e) {
+            return failure(wrap(e));
+        }
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn) {
+        return toCompletableFuture().handleAsync(fn);
+    }
+
+    @Override
+    public <U> CompletionStage<U> handleAsync(BiFunction<? super T, Throwable, ? extends U> fn, Executor executor) {
+        return toCompletableFuture().handleAsync(fn, executor);
+    }
+
+    @Override
+    public CompletableFuture<T> toCompletableFuture() {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (exception != null) {
+            future.completeExceptionally(exception);
+        } else {
+            future.complete(result);
+        }
+        return future;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("CompletedStage [result=").append(result).append(", exception=").append(exception).append("]");
+        return builder.toString();
+    }
+
+    private static Throwable wrap(Throwable e) {
+        return e instanceof CompletionException ? e : new CompletionException(e);
+    }
+
+}
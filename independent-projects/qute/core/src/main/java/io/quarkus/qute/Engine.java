@@ -2,6 +2,7 @@ package io.quarkus.qute;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
 /**
@@ -35,6 +36,20 @@ public interface Engine {
      */
     public List<ResultMapper> getResultMappers();
 
+    /**
+     * 
+     * @return the number of value resolutions that did not complete immediately since the engine was built
+     * @see EngineBuilder#setAsyncExecutor(java.util.concurrent.Executor, int)
+     */
+    public long getAsyncResolutionCount();
+
+    /**
+     * 
+     * @return the number of asynchronous resolutions waiting for the concurrency limit
+     * @see EngineBuilder#setAsyncExecutor(java.util.concurrent.Executor, int)
+     */
+    public int getQueuedResolutionCount();
+
     /**
      *
      * @param id
@@ -54,15 +69,26 @@ public interface Engine {
     public Template getTemplate(String id);
 
     /**
-     * Removes all templates from the cache.
+     * Removes all templates from the cache. The content cached by the {@code cached} sections of the templates is removed
+     * as well.
      */
     public void clearTemplates();
 
     /**
-     * Removes the templates for which the mapping id matches the given predicate.
+     * Removes the templates for which the mapping id matches the given predicate. The content cached by the
+     * {@code cached} sections of the removed templates is removed as well.
      * 
      * @param test
      */
     public void removeTemplates(Predicate<String> test);
 
+    /**
+     * Removes the content cached by all {@code cached} sections for which the template id and the evaluated key match
+     * the given predicate. The key is {@code null} if the section does not declare the {@code key} parameter.
+     * 
+     * @param test
+     * @see CachedSectionHelper
+     */
+    public void invalidateCachedSections(BiPredicate<String, Object> test);
+
 }
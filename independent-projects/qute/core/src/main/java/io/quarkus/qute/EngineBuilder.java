@@ -13,6 +13,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -27,6 +29,8 @@ public final class EngineBuilder {
     private final List<TemplateLocator> locators;
     private final List<ResultMapper> resultMappers;
     private Function<String, SectionHelperFactory<?>> sectionHelperFunc;
+    private Executor asyncExecutor;
+    private int maxAsyncResolutions;
 
     EngineBuilder() {
         this.sectionHelperFactories = new HashMap<>();
@@ -124,9 +128,29 @@ public final class EngineBuilder {
         return this;
     }
 
+    /**
+     * By default, the resolution of a template continues on the thread that completes an asynchronous value resolution,
+     * i.e. a value resolver that returns an incomplete {@link java.util.concurrent.CompletionStage}. If an executor is
+     * set then the resolution continues on the given executor instead. Moreover, at most {@code maxConcurrency}
+     * asynchronous resolutions may be in progress at the same time. If the limit is reached then any further resolution
+     * by a value resolver that returned an incomplete stage before is queued and started on the executor once another
+     * asynchronous resolution completes. The resolutions by other value resolvers, e.g. reflection lookups, and the
+     * expressions evaluated by a value resolver, e.g. the params of a virtual method, are never queued.
+     * 
+     * @param executor
+     * @param maxConcurrency The max number of asynchronous resolutions in progress, a non-positive value means no limit
+     * @return self
+     * @see Engine#getAsyncResolutionCount()
+     */
+    public EngineBuilder setAsyncExecutor(Executor executor, int maxConcurrency) {
+        this.asyncExecutor = Objects.requireNonNull(executor);
+        this.maxAsyncResolutions = maxConcurrency;
+        return this;
+    }
+
     public Engine build() {
         return new EngineImpl(sectionHelperFactories, valueResolvers, namespaceResolvers, locators, resultMappers,
-                sectionHelperFunc);
+                sectionHelperFunc, asyncExecutor, maxAsyncResolutions);
     }
 
 }
\ No newline at end of file
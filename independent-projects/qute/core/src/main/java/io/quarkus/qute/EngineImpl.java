@@ -16,10 +16,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 import org.jboss.logging.Logger;
 
@@ -34,7 +37,7 @@ class EngineImpl implements Engine {
     private final Function<String, SectionHelperFactory<?>> sectionHelperFunc;
     private final List<ValueResolver> valueResolvers;
     private final List<NamespaceResolver> namespaceResolvers;
-    private final Evaluator evaluator;
+    private final EvaluatorImpl evaluator;
     private final Map<String, Template> templates;
     private final List<TemplateLocator> locators;
     private final List<ResultMapper> resultMappers;
@@ -43,11 +46,12 @@ class EngineImpl implements Engine {
 
     EngineImpl(Map<String, SectionHelperFactory<?>> sectionHelperFactories, List<ValueResolver> valueResolvers,
             List<NamespaceResolver> namespaceResolvers, List<TemplateLocator> locators,
-            List<ResultMapper> resultMappers, Function<String, SectionHelperFactory<?>> sectionHelperFunc) {
+            List<ResultMapper> resultMappers, Function<String, SectionHelperFactory<?>> sectionHelperFunc,
+            Executor asyncExecutor, int maxAsyncResolutions) {
         this.sectionHelperFactories = new HashMap<>(sectionHelperFactories);
         this.valueResolvers = sort(valueResolvers);
         this.namespaceResolvers = ImmutableList.copyOf(namespaceResolvers);
-        this.evaluator = new EvaluatorImpl(this.valueResolvers);
+        this.evaluator = new EvaluatorImpl(this.valueResolvers, asyncExecutor, maxAsyncResolutions);
         this.templates = new ConcurrentHashMap<>();
         this.locators = sort(locators);
         ServiceLoader<PublisherFactory> loader = ServiceLoader.load(PublisherFactory.class);
@@ -101,8 +105,22 @@ class EngineImpl implements Engine {
         return resultMappers;
     }
 
+    @Override
+    public long getAsyncResolutionCount() {
+        return evaluator.getAsyncResolutions();
+    }
+
+    @Override
+    public int getQueuedResolutionCount() {
+        return evaluator.getQueuedResolutions();
+    }
+
     public Template putTemplate(String id, Template template) {
-        return templates.put(id, template);
+        Template previous = templates.put(id, template);
+        if (previous != null && previous != template) {
+            invalidateCachedSections(previous);
+        }
+        return previous;
     }
 
     public Template getTemplate(String id) {
@@ -111,12 +129,34 @@ class EngineImpl implements Engine {
 
     @Override
     public void clearTemplates() {
-        templates.clear();
+        removeTemplates(id -> true);
     }
 
     @Override
     public void removeTemplates(Predicate<String> test) {
-        templates.keySet().removeIf(test);
+        for (Iterator<Map.Entry<String, Template>> it = templates.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, Template> entry = it.next();
+            if (test.test(entry.getKey())) {
+                it.remove();
+                invalidateCachedSections(entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public void invalidateCachedSections(BiPredicate<String, Object> test) {
+        getCaches().forEach(cache -> cache.invalidate(test));
+    }
+
+    private void invalidateCachedSections(Template template) {
+        // The content cached for a removed or replaced template is never used again
+        getCaches().forEach(cache -> cache.invalidateTemplate(template.getGeneratedId()));
+    }
+
+    private Stream<CachedSectionHelper.Cache> getCaches() {
+        // The same factory is usually registered for multiple aliases
+        return sectionHelperFactories.values().stream().filter(CachedSectionHelper.Factory.class::isInstance).distinct()
+                .map(f -> ((CachedSectionHelper.Factory) f).getCache());
     }
 
     PublisherFactory getPublisherFactory() {
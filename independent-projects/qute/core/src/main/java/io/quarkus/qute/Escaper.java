@@ -1,5 +1,7 @@
 package io.quarkus.qute;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -7,9 +9,15 @@ import java.util.Objects;
 
 /**
  * Escapes a characted sequence using a map of replacements.
+ * <p>
+ * Replacements for the ASCII characters are looked up in an array indexed by the character. Runs of characters that do
+ * not need to be escaped are copied in bulk.
  */
 public final class Escaper {
 
+    private static final int ASCII_SIZE = 128;
+
+    private final String[] asciiReplacements;
     private final Map<Character, String> replacements;
 
     /**
@@ -17,8 +25,17 @@ public final class Escaper {
      * @param replacements
      */
     private Escaper(Map<Character, String> replacements) {
-        this.replacements = replacements.isEmpty() ? Collections.emptyMap()
-                : new HashMap<>(replacements);
+        this.asciiReplacements = new String[ASCII_SIZE];
+        Map<Character, String> others = new HashMap<>();
+        for (Map.Entry<Character, String> entry : replacements.entrySet()) {
+            char c = entry.getKey();
+            if (c < ASCII_SIZE) {
+                asciiReplacements[c] = entry.getValue();
+            } else {
+                others.put(c, entry.getValue());
+            }
+        }
+        this.replacements = others.isEmpty() ? Collections.emptyMap() : others;
     }
 
     /**
@@ -28,31 +45,71 @@ public final class Escaper {
      */
     public String escape(CharSequence value) {
         Objects.requireNonNull(value);
-        if (value.length() == 0) {
+        int index = nextReplacementIndex(value, 0);
+        if (index == -1) {
+            // In most cases we will not need to escape the value at all
             return value.toString();
         }
-        for (int i = 0; i < value.length(); i++) {
-            String replacement = replacements.get(value.charAt(i));
-            if (replacement != null) {
-                // In most cases we will not need to escape the value at all
-                return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
+        StringBuilder builder = new StringBuilder(value.length() + 16);
+        try {
+            doEscape(value, index, builder);
+        } catch (IOException e) {
+            // StringBuilder never throws IOException
+            throw new UncheckedIOException(e);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Escapes the value directly into the given target.
+     *
+     * @param value
+     * @param target
+     * @throws IOException
+     */
+    public void escape(CharSequence value, Appendable target) throws IOException {
+        Objects.requireNonNull(value);
+        int index = nextReplacementIndex(value, 0);
+        if (index == -1) {
+            target.append(value);
+        } else {
+            doEscape(value, index, target);
+        }
+    }
+
+    private void doEscape(CharSequence value, int index, Appendable target) throws IOException {
+        int length = value.length();
+        int start = 0;
+        while (index != -1) {
+            if (index > start) {
+                target.append(value, start, index);
             }
+            target.append(replacement(value.charAt(index)));
+            start = index + 1;
+            index = nextReplacementIndex(value, start);
+        }
+        if (start < length) {
+            target.append(value, start, length);
         }
-        return value.toString();
     }
 
-    private String doEscape(CharSequence value, int index, StringBuilder builder) {
+    private int nextReplacementIndex(CharSequence value, int from) {
         int length = value.length();
-        while (++index < length) {
-            char c = value.charAt(index);
-            String replacement = replacements.get(c);
-            if (replacement != null) {
-                builder.append(replacement);
-            } else {
-                builder.append(c);
+        for (int i = from; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < ASCII_SIZE) {
+                if (asciiReplacements[c] != null) {
+                    return i;
+                }
+            } else if (!replacements.isEmpty() && replacements.containsKey(c)) {
+                return i;
             }
         }
-        return builder.toString();
+        return -1;
+    }
+
+    private String replacement(char c) {
+        return c < ASCII_SIZE ? asciiReplacements[c] : replacements.get(c);
     }
 
     /**
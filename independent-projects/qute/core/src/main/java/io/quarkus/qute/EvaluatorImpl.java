@@ -1,11 +1,15 @@
 package io.quarkus.qute;
 
+import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.LoopSectionHelper.IterationElement;
 import io.quarkus.qute.Results.Result;
-import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 import org.jboss.logging.Logger;
 
 /**
@@ -16,36 +20,67 @@ class EvaluatorImpl implements Evaluator {
     private static final Logger LOGGER = Logger.getLogger(EvaluatorImpl.class);
 
     private final List<ValueResolver> resolvers;
+    private final Executor executor;
+    private final AsyncResolutionLimiter limiter;
+    private final LongAdder asyncResolutions;
+    // Resolvers that returned an incomplete stage at least once
+    private final Set<ValueResolver> asyncResolvers;
 
     EvaluatorImpl(List<ValueResolver> valueResolvers) {
+        this(valueResolvers, null, 0);
+    }
+
+    EvaluatorImpl(List<ValueResolver> valueResolvers, Executor executor, int maxAsyncResolutions) {
         this.resolvers = valueResolvers;
+        this.executor = executor;
+        this.limiter = executor != null && maxAsyncResolutions > 0 ? new AsyncResolutionLimiter(executor, maxAsyncResolutions)
+                : null;
+        this.asyncResolutions = new LongAdder();
+        this.asyncResolvers = ConcurrentHashMap.newKeySet();
+    }
+
+    long getAsyncResolutions() {
+        return asyncResolutions.sum();
+    }
+
+    int getQueuedResolutions() {
+        return limiter != null ? limiter.getQueueSize() : 0;
     }
 
     @Override
     public CompletionStage<Object> evaluate(Expression expression, ResolutionContext resolutionContext) {
-        Iterator<String> parts;
+        return evaluate(expression, resolutionContext, false);
+    }
+
+    /**
+     * 
+     * @param expression
+     * @param resolutionContext
+     * @param nested {@code true} if evaluated by a value resolver, see {@link AsyncResolutionLimiter}
+     * @return the result
+     */
+    private CompletionStage<Object> evaluate(Expression expression, ResolutionContext resolutionContext, boolean nested) {
         if (expression.namespace != null) {
-            parts = expression.parts.iterator();
             NamespaceResolver resolver = findNamespaceResolver(expression.namespace, resolutionContext);
             if (resolver == null) {
                 LOGGER.errorf("No namespace resolver found for: %s", expression.namespace);
                 return Futures.failure(new IllegalStateException("No resolver for namespace: " + expression.namespace));
             }
-            EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
+            EvalContext context = new EvalContextImpl(false, null, expression.evalParts[0], resolutionContext, nested);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.namespace, resolver.getClass());
             return resolver.resolve(context).thenCompose(r -> {
-                if (parts.hasNext()) {
-                    return resolveReference(false, r, parts, resolutionContext);
+                if (expression.evalParts.length > 1) {
+                    return resolveReference(false, r, expression.evalParts, 1, resolutionContext, nested);
                 } else {
-                    return CompletableFuture.completedFuture(r);
+                    return CompletedStage.of(r);
                 }
             });
         } else {
             if (expression.literal != null) {
                 return expression.literal;
             } else {
-                parts = expression.parts.iterator();
-                return resolveReference(true, resolutionContext.getData(), parts, resolutionContext);
+                return resolveReference(true, resolutionContext.getData(), expression.evalParts, 0, resolutionContext,
+                        nested);
             }
         }
     }
@@ -64,64 +99,110 @@ class EvaluatorImpl implements Evaluator {
         return findNamespaceResolver(namespace, resolutionContext.getParent());
     }
 
-    private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<String> parts,
-            ResolutionContext resolutionContext) {
-        return resolve(new EvalContextImpl(tryParent, ref, parts.next(), resolutionContext), resolvers.iterator())
+    private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Part[] parts, int partIndex,
+            ResolutionContext resolutionContext, boolean nested) {
+        return resolve(new EvalContextImpl(tryParent, ref, parts[partIndex], resolutionContext, nested), 0)
                 .thenCompose(r -> {
-                    if (parts.hasNext()) {
-                        return resolveReference(false, r, parts, resolutionContext);
+                    if (partIndex + 1 < parts.length) {
+                        return resolveReference(false, r, parts, partIndex + 1, resolutionContext, nested);
                     } else {
-                        return CompletableFuture.completedFuture(r);
+                        return CompletedStage.of(r);
                     }
                 });
     }
 
-    private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers) {
-        if (!resolvers.hasNext()) {
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext, int index) {
+        // ValueResolver.appliesTo() may depend on the base object, not only on its class, so it's always checked
+        while (index < resolvers.size()) {
+            ValueResolver resolver = resolvers.get(index);
+            if (resolver instanceof BatchValueResolver) {
+                // Values prefetched by a batch resolver take effect at the priority of the batch resolver
+                Object prefetched = getPrefetched(evalContext, (BatchValueResolver) resolver);
+                if (prefetched != Result.NOT_FOUND) {
+                    return CompletedStage.of(prefetched);
+                }
+            }
+            if (resolver.appliesTo(evalContext)) {
+                break;
+            }
+            index++;
+        }
+        if (index == resolvers.size()) {
             ResolutionContext parent = evalContext.resolutionContext.getParent();
             if (evalContext.tryParent && parent != null) {
                 // Continue with parent context
                 return resolve(
-                        new EvalContextImpl(false, parent.getData(), evalContext.name, parent),
-                        this.resolvers.iterator());
+                        new EvalContextImpl(false, parent.getData(), evalContext.part, parent, evalContext.nested), 0);
             }
             LOGGER.tracef("Unable to resolve %s", evalContext);
             return Results.NOT_FOUND;
         }
-        ValueResolver resolver = resolvers.next();
-        if (resolver.appliesTo(evalContext)) {
-            return resolver.resolve(evalContext).thenCompose(r -> {
-                if (Result.NOT_FOUND.equals(r)) {
-                    return resolve(evalContext, resolvers);
-                } else {
-                    return CompletableFuture.completedFuture(r);
-                }
-            });
-        } else {
-            // Try next resolver
-            return resolve(evalContext, resolvers);
+        int next = index + 1;
+        return thenCompose(invoke(resolvers.get(index), evalContext), r -> {
+            if (Result.NOT_FOUND.equals(r)) {
+                // Try next resolver
+                return resolve(evalContext, next);
+            } else {
+                return CompletedStage.of(r);
+            }
+        });
+    }
+
+    private Object getPrefetched(EvalContextImpl evalContext, BatchValueResolver resolver) {
+        Object data = evalContext.resolutionContext.getData();
+        if (data instanceof IterationElement && evalContext.params.isEmpty()) {
+            // Values prefetched for the current iteration element
+            return ((IterationElement) data).getPrefetched(resolver, evalContext.base, evalContext.name);
         }
+        return Result.NOT_FOUND;
+    }
+
+    private CompletionStage<Object> invoke(ValueResolver resolver, EvalContextImpl context) {
+        if (limiter != null) {
+            // Only a resolver that was asynchronous before is throttled so that a sync lookup is never queued
+            return limiter.submit(() -> track(resolver, resolver.resolve(context)),
+                    !context.nested && asyncResolvers.contains(resolver));
+        }
+        return track(resolver, resolver.resolve(context));
+    }
+
+    private CompletionStage<Object> track(ValueResolver resolver, CompletionStage<Object> result) {
+        if (!CompletedStage.isCompleted(result)) {
+            asyncResolutions.increment();
+            asyncResolvers.add(resolver);
+        }
+        return result;
+    }
+
+    private CompletionStage<Object> thenCompose(CompletionStage<Object> result,
+            Function<Object, CompletionStage<Object>> fun) {
+        if (executor != null && !CompletedStage.isCompleted(result)) {
+            // Continue on the engine executor instead of the thread that completes the resolution
+            return result.thenComposeAsync(fun, executor);
+        }
+        return result.thenCompose(fun);
     }
 
     class EvalContextImpl implements EvalContext {
 
         final boolean tryParent;
         final Object base;
+        final Part part;
         final String name;
         final List<String> params;
         final ResolutionContext resolutionContext;
+        final boolean nested;
 
-        public EvalContextImpl(boolean tryParent, Object base, String name, ResolutionContext resolutionContext) {
+        public EvalContextImpl(boolean tryParent, Object base, Part part, ResolutionContext resolutionContext,
+                boolean nested) {
             this.tryParent = tryParent;
+            this.nested = nested;
             this.base = base;
+            this.part = part;
             this.resolutionContext = resolutionContext;
-            if (Expressions.isVirtualMethod(name)) {
-                this.params = Expressions.parseVirtualMethodParams(name);
-                this.name = Expressions.parseVirtualMethodName(name);
-            } else {
-                this.params = Collections.emptyList();
-                this.name = name;
-            }
+            this.name = part.name;
+            // Invalid virtual methods are parsed again so that the error is reported
+            this.params = part.params != null ? part.params : Expressions.parseVirtualMethodParams(part.value);
         }
 
         @Override
@@ -146,7 +227,8 @@ class EvaluatorImpl implements Evaluator {
 
         @Override
         public CompletionStage<Object> evaluate(Expression expression) {
-            return resolutionContext.evaluate(expression);
+            // Evaluated by a value resolver
+            return EvaluatorImpl.this.evaluate(expression, resolutionContext, true);
         }
 
         @Override
@@ -48,12 +48,26 @@ public final class Expression {
     public final String typeCheckInfo;
     public final Origin origin;
 
+    /**
+     * Parts with pre-parsed virtual method params, used by the {@link EvaluatorImpl}.
+     */
+    final Part[] evalParts;
+
     Expression(String namespace, List<String> parts, Object literal, String typeCheckInfo, Origin origin) {
         this.namespace = namespace;
         this.parts = parts;
         this.literal = literal != Result.NOT_FOUND ? CompletableFuture.completedFuture(literal) : null;
         this.typeCheckInfo = typeCheckInfo;
         this.origin = origin;
+        if (this.literal != null) {
+            this.evalParts = new Part[0];
+        } else {
+            this.evalParts = new Part[parts.size()];
+            int idx = 0;
+            for (String part : parts) {
+                evalParts[idx++] = new Part(part);
+            }
+        }
     }
 
     @Override
@@ -113,4 +127,32 @@ public final class Expression {
         return null;
     }
 
+    /**
+     * A part of an expression. The virtual method params are parsed once and not for every evaluation.
+     */
+    static final class Part {
+
+        final String name;
+        final List<String> params;
+        final String value;
+
+        Part(String value) {
+            this.value = value;
+            String name = value;
+            List<String> params = Collections.emptyList();
+            if (Expressions.isVirtualMethod(value)) {
+                try {
+                    params = Expressions.parseVirtualMethodParams(value);
+                    name = Expressions.parseVirtualMethodName(value);
+                } catch (IllegalArgumentException e) {
+                    // Invalid virtual method - the error is reported during evaluation
+                    params = null;
+                }
+            }
+            this.name = name;
+            this.params = params;
+        }
+
+    }
+
 }
@@ -2,7 +2,6 @@ package io.quarkus.qute;
 
 import java.util.Collections;
 import java.util.Set;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
 /**
@@ -22,8 +21,12 @@ class ExpressionNode implements TemplateNode {
 
     @Override
     public CompletionStage<ResultNode> resolve(ResolutionContext context) {
-        return context.evaluate(expression)
-                .thenCompose(r -> CompletableFuture.<ResultNode> completedFuture(new SingleResultNode(r, this)));
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (CompletedStage.isCompleted(result)) {
+            // Sync fast path - the value is already available
+            return CompletedStage.of(new SingleResultNode(CompletedStage.getNow(result), this));
+        }
+        return result.thenApply(r -> new SingleResultNode(r, this));
     }
 
     public Origin getOrigin() {
@@ -14,14 +14,73 @@ class Futures {
         return failure;
     }
 
+    /**
+     * If all the given stages are already completed then the {@link MultiResultNode} is created synchronously and no
+     * {@link CompletableFuture} is allocated.
+     * 
+     * @param results
+     * @return a completion stage of a result node that wraps all the results
+     */
+    static CompletionStage<ResultNode> multiResult(CompletionStage<ResultNode>[] results) {
+        boolean completed = true;
+        for (CompletionStage<ResultNode> result : results) {
+            if (!CompletedStage.isCompleted(result)) {
+                completed = false;
+                break;
+            }
+        }
+        if (completed) {
+            // Sync fast path
+            ResultNode[] resultNodes = new ResultNode[results.length];
+            for (int i = 0; i < results.length; i++) {
+                resultNodes[i] = CompletedStage.getNow(results[i]);
+            }
+            return CompletedStage.of(new MultiResultNode(resultNodes));
+        }
+        CompletableFuture<ResultNode> result = new CompletableFuture<>();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<ResultNode>[] futures = new CompletableFuture[results.length];
+        for (int i = 0; i < results.length; i++) {
+            futures[i] = results[i].toCompletableFuture();
+        }
+        CompletableFuture
+                .allOf(futures)
+                .whenComplete((v, t) -> {
+                    if (t != null) {
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(new MultiResultNode(futures));
+                    }
+                });
+        return result;
+    }
+
     @SuppressWarnings("unchecked")
     static CompletionStage<Map<String, Object>> evaluateParams(Map<String, Expression> parameters,
             ResolutionContext resolutionContext) {
-        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
-        CompletableFuture<Object>[] results = new CompletableFuture[parameters.size()];
+        CompletionStage<Object>[] stages = new CompletionStage[parameters.size()];
+        boolean completed = true;
         int idx = 0;
         for (Entry<String, Expression> entry : parameters.entrySet()) {
-            results[idx++] = resolutionContext.evaluate(entry.getValue()).toCompletableFuture();
+            CompletionStage<Object> stage = resolutionContext.evaluate(entry.getValue());
+            if (completed && !CompletedStage.isCompleted(stage)) {
+                completed = false;
+            }
+            stages[idx++] = stage;
+        }
+        if (completed) {
+            // Sync fast path - all params were evaluated immediately
+            Map<String, Object> paramValues = new HashMap<>();
+            int j = 0;
+            for (Entry<String, Expression> entry : parameters.entrySet()) {
+                paramValues.put(entry.getKey(), CompletedStage.getNow(stages[j++]));
+            }
+            return CompletedStage.of(paramValues);
+        }
+        CompletableFuture<Map<String, Object>> result = new CompletableFuture<>();
+        CompletableFuture<Object>[] results = new CompletableFuture[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            results[i] = stages[i].toCompletableFuture();
         }
         CompletableFuture.allOf(results).whenComplete((v, t1) -> {
             if (t1 != null) {
@@ -57,7 +57,7 @@ public class IfSectionHelper implements SectionHelper {
                 if (blocks.hasNext()) {
                     return resolveCondition(context, blocks);
                 }
-                return CompletableFuture.completedFuture(ResultNode.NOOP);
+                return CompletedStage.of(ResultNode.NOOP);
             }
         });
     }
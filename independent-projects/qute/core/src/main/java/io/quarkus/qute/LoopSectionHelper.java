@@ -2,15 +2,18 @@ package io.quarkus.qute;
 
 import static io.quarkus.qute.Parameter.EMPTY;
 
+import io.quarkus.qute.Expression.Part;
 import io.quarkus.qute.Results.Result;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
@@ -24,13 +27,27 @@ public class LoopSectionHelper implements SectionHelper {
 
     private final String alias;
     private final Expression iterable;
+    private final List<BatchValueResolver> batchResolvers;
+    private final Set<String> prefetchNames;
 
     LoopSectionHelper(String alias, Expression iterable) {
+        this(alias, iterable, Collections.emptyList(), Collections.emptyList());
+    }
+
+    LoopSectionHelper(String alias, Expression iterable, List<ValueResolver> valueResolvers, List<SectionBlock> blocks) {
         this.alias = alias.equals(Parameter.EMPTY) ? DEFAULT_ALIAS : alias;
         this.iterable = Objects.requireNonNull(iterable);
+        List<BatchValueResolver> batchResolvers = new ArrayList<>();
+        for (ValueResolver resolver : valueResolvers) {
+            if (resolver instanceof BatchValueResolver) {
+                batchResolvers.add((BatchValueResolver) resolver);
+            }
+        }
+        this.batchResolvers = batchResolvers.isEmpty() ? Collections.emptyList() : batchResolvers;
+        this.prefetchNames = this.batchResolvers.isEmpty() || blocks.isEmpty() ? Collections.emptySet()
+                : initPrefetchNames(this.alias, blocks.get(0));
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
         return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
@@ -46,40 +63,90 @@ public class LoopSectionHelper implements SectionHelper {
             } else {
                 throw new IllegalStateException("Cannot iterate over: " + it);
             }
+            if (!prefetchNames.isEmpty()) {
+                List<Object> elements = new ArrayList<>();
+                while (iterator.hasNext()) {
+                    elements.add(iterator.next());
+                }
+                return prefetch(elements).thenCompose(prefetched -> {
+                    for (int i = 0; i < elements.size(); i++) {
+                        results.add(nextElement(elements.get(i), i, i + 1 < elements.size(), prefetched, context));
+                    }
+                    return multiResult(results);
+                });
+            }
             int idx = 0;
             while (iterator.hasNext()) {
-                results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
-            }
-            if (results.isEmpty()) {
-                return CompletableFuture.completedFuture(ResultNode.NOOP);
+                results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), null, context));
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<>();
-            CompletableFuture<ResultNode>[] all = new CompletableFuture[results.size()];
-            idx = 0;
-            for (CompletionStage<ResultNode> r : results) {
-                all[idx++] = r.toCompletableFuture();
-            }
-            CompletableFuture
-                    .allOf(all)
-                    .whenComplete((v, t) -> {
-                        if (t != null) {
-                            result.completeExceptionally(t);
-                        } else {
-                            result.complete(new MultiResultNode(all));
-                        }
-                    });
-            return result;
+            return multiResult(results);
         });
     }
 
-    CompletionStage<ResultNode> nextElement(Object element, int index, boolean hasNext, SectionResolutionContext context) {
+    @SuppressWarnings("unchecked")
+    private CompletionStage<ResultNode> multiResult(List<CompletionStage<ResultNode>> results) {
+        if (results.isEmpty()) {
+            return CompletedStage.of(ResultNode.NOOP);
+        }
+        return Futures.multiResult(results.toArray(new CompletionStage[results.size()]));
+    }
+
+    private CompletionStage<Map<String, Prefetched>> prefetch(List<Object> elements) {
+        if (elements.isEmpty()) {
+            return CompletedStage.of(Collections.emptyMap());
+        }
+        Map<String, BatchValueResolver> resolvers = new HashMap<>();
+        Map<String, CompletionStage<List<Object>>> stages = new HashMap<>();
+        for (String name : prefetchNames) {
+            for (BatchValueResolver resolver : batchResolvers) {
+                CompletionStage<List<Object>> values = resolver.resolveAll(elements, name);
+                if (values != null) {
+                    // The first applicable resolver wins
+                    resolvers.put(name, resolver);
+                    stages.put(name, values);
+                    break;
+                }
+            }
+        }
+        CompletionStage<Map<String, Prefetched>> result = CompletedStage.of(new HashMap<>());
+        for (Entry<String, CompletionStage<List<Object>>> entry : stages.entrySet()) {
+            result = result.thenCombine(entry.getValue(), (map, values) -> {
+                if (values.size() != elements.size()) {
+                    throw new IllegalStateException(
+                            "Batch resolver returned " + values.size() + " values for " + elements.size() + " elements");
+                }
+                map.put(entry.getKey(), new Prefetched(resolvers.get(entry.getKey()), values));
+                return map;
+            });
+        }
+        return result;
+    }
+
+    CompletionStage<ResultNode> nextElement(Object element, int index, boolean hasNext,
+            Map<String, Prefetched> prefetched, SectionResolutionContext context) {
         AtomicReference<ResolutionContext> resolutionContextHolder = new AtomicReference<>();
-        ResolutionContext child = context.resolutionContext().createChild(new IterationElement(alias, element, index, hasNext),
+        ResolutionContext child = context.resolutionContext().createChild(
+                new IterationElement(alias, element, index, hasNext, prefetched),
                 null);
         resolutionContextHolder.set(child);
         return context.execute(child);
     }
 
+    private static Set<String> initPrefetchNames(String alias, SectionBlock block) {
+        // Find all the properties of the iteration element, e.g. "price" for "item.price"
+        Set<String> names = new HashSet<>();
+        for (Expression expression : block.getExpressions()) {
+            if (expression.namespace == null && expression.literal == null && expression.evalParts.length > 1
+                    && alias.equals(expression.evalParts[0].value)) {
+                Part property = expression.evalParts[1];
+                if (property.params != null && property.params.isEmpty()) {
+                    names.add(property.name);
+                }
+            }
+        }
+        return names;
+    }
+
     public static class Factory implements SectionHelperFactory<LoopSectionHelper> {
 
         public static final String HINT = "<for-element>";
@@ -103,7 +170,8 @@ public class LoopSectionHelper implements SectionHelper {
 
         @Override
         public LoopSectionHelper initialize(SectionInitContext context) {
-            return new LoopSectionHelper(context.getParameter(ALIAS), context.getExpression(ITERABLE));
+            return new LoopSectionHelper(context.getParameter(ALIAS), context.getExpression(ITERABLE),
+                    context.getEngine().getValueResolvers(), context.getBlocks());
         }
 
         @Override
@@ -138,12 +206,33 @@ public class LoopSectionHelper implements SectionHelper {
         final Object element;
         final int index;
         final boolean hasNext;
+        final Map<String, Prefetched> prefetched;
 
         public IterationElement(String alias, Object element, int index, boolean hasNext) {
+            this(alias, element, index, hasNext, null);
+        }
+
+        IterationElement(String alias, Object element, int index, boolean hasNext, Map<String, Prefetched> prefetched) {
             this.alias = alias;
             this.element = element;
             this.index = index;
             this.hasNext = hasNext;
+            this.prefetched = prefetched;
+        }
+
+        /**
+         * 
+         * @param resolver
+         * @param base
+         * @param name
+         * @return the value prefetched by the given {@link BatchValueResolver} or {@link Result#NOT_FOUND}
+         */
+        Object getPrefetched(BatchValueResolver resolver, Object base, String name) {
+            if (prefetched == null || base != element) {
+                return Result.NOT_FOUND;
+            }
+            Prefetched values = prefetched.get(name);
+            return values != null && values.resolver == resolver ? values.values.get(index) : Result.NOT_FOUND;
         }
 
         @Override
@@ -173,4 +262,16 @@ public class LoopSectionHelper implements SectionHelper {
         }
     }
 
+    static class Prefetched {
+
+        final BatchValueResolver resolver;
+        final List<Object> values;
+
+        Prefetched(BatchValueResolver resolver, List<Object> values) {
+            this.resolver = resolver;
+            this.values = values;
+        }
+
+    }
+
 }
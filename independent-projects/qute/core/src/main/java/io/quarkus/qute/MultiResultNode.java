@@ -20,6 +20,10 @@ public class MultiResultNode implements ResultNode {
         this.results = results;
     }
 
+    public MultiResultNode(ResultNode[] results) {
+        this.results = results;
+    }
+
     @Override
     public void process(Consumer<String> consumer) {
         for (ResultNode result : results) {
@@ -0,0 +1,35 @@
+package io.quarkus.qute;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes the UTF-8 encoded chunks to an output stream.
+ * <p>
+ * An {@link IOException} thrown by the output stream is rethrown as {@link UncheckedIOException}.
+ */
+public class OutputStreamConsumer implements Utf8Consumer {
+
+    private final OutputStream out;
+
+    public OutputStreamConsumer(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void accept(String chunk) {
+        accept(chunk.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void accept(byte[] utf8) {
+        try {
+            out.write(utf8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
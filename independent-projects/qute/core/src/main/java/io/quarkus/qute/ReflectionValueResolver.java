@@ -6,7 +6,6 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
@@ -49,7 +48,7 @@ public class ReflectionValueResolver implements ValueResolver {
         }
 
         try {
-            return CompletableFuture.completedFuture(wrapper.getValue(base));
+            return CompletedStage.of(wrapper.getValue(base));
         } catch (Exception e) {
             throw new IllegalStateException("Reflection invocation error", e);
         }
@@ -98,12 +98,21 @@ public class SectionBlock {
         }
 
         SectionBlock.Builder addNode(TemplateNode node) {
-            nodes.add(node);
+            if (node instanceof TextNode && !nodes.isEmpty() && nodes.get(nodes.size() - 1) instanceof TextNode) {
+                // Merge adjacent text nodes, e.g. the text around a comment
+                TextNode last = (TextNode) nodes.get(nodes.size() - 1);
+                node = new TextNode(last.getValue() + ((TextNode) node).getValue(), last.getOrigin());
+                nodes.set(nodes.size() - 1, node);
+            } else {
+                nodes.add(node);
+            }
             return this;
         }
 
         SectionBlock.Builder addNodes(TemplateNode... nodes) {
-            Collections.addAll(this.nodes, nodes);
+            for (TemplateNode node : nodes) {
+                addNode(node);
+            }
             return this;
         }
 
@@ -52,7 +52,12 @@ class TemplateImpl implements Template {
             try {
                 Object timeoutAttr = getAttribute(TIMEOUT);
                 long timeout = timeoutAttr != null ? Long.parseLong(timeoutAttr.toString()) : 10000;
-                return renderAsync().toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+                CompletionStage<String> result = renderAsync();
+                if (CompletedStage.isCompleted(result)) {
+                    // Sync fast path - there is no need to block
+                    return CompletedStage.getNow(result);
+                }
+                return result.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
             } catch (InterruptedException | ExecutionException | TimeoutException e) {
                 throw new IllegalStateException(e);
             }
@@ -78,24 +83,47 @@ class TemplateImpl implements Template {
             return renderData(data(), resultConsumer);
         }
 
+        @Override
+        public CompletionStage<ResultNode> resolve() {
+            return resolveData(data());
+        }
+
     }
 
-    private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
-        CompletableFuture<Void> result = new CompletableFuture<>();
+    private CompletionStage<ResultNode> resolveData(Object data) {
         DataNamespaceResolver dataResolver = new DataNamespaceResolver();
         List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
                 .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
         ResolutionContext rootContext = new ResolutionContextImpl(null, data, namespaceResolvers,
                 engine.getEvaluator(), null);
         dataResolver.rootContext = rootContext;
+        return root.resolve(rootContext);
+    }
+
+    private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
         // Async resolution
-        root.resolve(rootContext).whenComplete((r, t) -> {
+        CompletionStage<ResultNode> resolved = resolveData(data);
+        if (CompletedStage.isCompleted(resolved)) {
+            // Sync fast path - all values were resolved immediately
+            try {
+                CompletedStage.getNow(resolved).process(consumer);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
+            }
+            return CompletedStage.VOID;
+        }
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        resolved.whenComplete((r, t) -> {
             if (t != null) {
                 result.completeExceptionally(t);
             } else {
                 // Sync processing of the result tree - build the output
-                r.process(consumer);
-                result.complete(null);
+                try {
+                    r.process(consumer);
+                    result.complete(null);
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
             }
         });
         return result;
@@ -1,5 +1,8 @@
 package io.quarkus.qute;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 import org.reactivestreams.Publisher;
@@ -80,4 +83,54 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers the resolution of the template but does not produce any output. The returned result tree can be processed
+     * later, e.g. once the response is about to be written, so that a failure to resolve a value can be handled before
+     * any output is produced while the output itself is still streamed.
+     * <p>
+     * The default implementation renders the template as a single string.
+     * 
+     * @return a completion stage that is completed once all the values are resolved
+     */
+    default CompletionStage<ResultNode> resolve() {
+        return renderAsync().thenApply(result -> consumer -> consumer.accept(result));
+    }
+
+    /**
+     * Triggers rendering. The chunks of the rendered template are appended to the given {@link Appendable} while the
+     * result tree is processed, i.e. the rendered template is never materialized as a single string.
+     * <p>
+     * An {@link IOException} thrown by the appendable completes the returned stage exceptionally.
+     * 
+     * @param appendable To append chunks of the rendered template, e.g. a {@link java.io.Writer}
+     * @return a completion stage that is completed once the rendering finished
+     */
+    default CompletionStage<Void> renderTo(Appendable appendable) {
+        return consume(chunk -> {
+            try {
+                appendable.append(chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Triggers rendering. The rendered template is written to the given output stream as UTF-8 encoded bytes. The
+     * static text of the template is encoded when the template is parsed and is copied as is.
+     * <p>
+     * The chunks are written as soon as they are available, i.e. a buffered output stream should be used. An
+     * {@link IOException} thrown by the output stream completes the returned stage exceptionally.
+     * <p>
+     * Note that a {@link java.io.PrintStream} is also an {@link Appendable}; use {@link #renderTo(Appendable)} to append
+     * the chunks to a print stream as characters.
+     * 
+     * @param out
+     * @return a completion stage that is completed once the rendering finished
+     * @see Utf8Consumer
+     */
+    default CompletionStage<Void> renderBytesTo(OutputStream out) {
+        return consume(new OutputStreamConsumer(out));
+    }
+
 }
@@ -1,6 +1,6 @@
 package io.quarkus.qute;
 
-import java.util.concurrent.CompletableFuture;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
@@ -9,13 +9,15 @@ import java.util.function.Consumer;
  */
 public class TextNode implements TemplateNode, ResultNode {
 
-    private final CompletableFuture<ResultNode> result;
+    private final CompletedStage<ResultNode> result;
     private final String value;
+    private final byte[] utf8;
     private final Origin origin;
 
     public TextNode(String value, Origin origin) {
-        this.result = CompletableFuture.completedFuture(this);
+        this.result = CompletedStage.of(this);
         this.value = value;
+        this.utf8 = value.getBytes(StandardCharsets.UTF_8);
         this.origin = origin;
     }
 
@@ -30,7 +32,16 @@ public class TextNode implements TemplateNode, ResultNode {
 
     @Override
     public void process(Consumer<String> consumer) {
-        consumer.accept(value);
+        if (consumer instanceof Utf8Consumer) {
+            // No need to encode the static text
+            ((Utf8Consumer) consumer).accept(utf8);
+        } else {
+            consumer.accept(value);
+        }
+    }
+
+    String getValue() {
+        return value;
     }
 
     @Override
@@ -0,0 +1,21 @@
+package io.quarkus.qute;
+
+import java.util.function.Consumer;
+
+/**
+ * A result consumer that is able to consume UTF-8 encoded chunks.
+ * <p>
+ * The static text of a template is encoded when the template is parsed. If the consumer passed to
+ * {@link ResultNode#process(Consumer)} implements this interface then the pre-encoded bytes of a {@link TextNode} are
+ * passed to {@link #accept(byte[])} and no charset encoding is needed during rendering.
+ */
+public interface Utf8Consumer extends Consumer<String> {
+
+    /**
+     * The array must not be modified.
+     * 
+     * @param utf8 The UTF-8 encoded chunk
+     */
+    void accept(byte[] utf8);
+
+}
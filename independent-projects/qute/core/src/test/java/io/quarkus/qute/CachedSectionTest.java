@@ -0,0 +1,165 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import io.quarkus.qute.TemplateLocator.TemplateLocation;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+public class CachedSectionTest {
+
+    @Test
+    public void testCached() {
+        CachedSectionHelper.Factory factory = new CachedSectionHelper.Factory();
+        Engine engine = Engine.builder().addDefaultValueResolvers().addSectionHelper(factory)
+                .addValueResolver(ValueResolvers.mapResolver()).build();
+        Template template = engine.parse("{#cached key=lang}{counter.next}:{lang}{/cached}");
+        Counter counter = new Counter();
+        assertEquals("1:en", template.render(data(counter, "en")));
+        assertEquals("1:en", template.render(data(counter, "en")));
+        assertEquals("2:cs", template.render(data(counter, "cs")));
+        assertEquals("2:cs", template.render(data(counter, "cs")));
+        assertEquals(2, factory.getCache().getHits());
+        assertEquals(2, factory.getCache().getMisses());
+        assertEquals(2, factory.getCache().size());
+
+        engine.invalidateCachedSections((id, key) -> "en".equals(key));
+        assertEquals(1, factory.getCache().size());
+        assertEquals("3:en", template.render(data(counter, "en")));
+        assertEquals("2:cs", template.render(data(counter, "cs")));
+    }
+
+    @Test
+    public void testNoKey() {
+        Engine engine = Engine.builder().addDefaultValueResolvers().addSectionHelper(new CachedSectionHelper.Factory())
+                .addValueResolver(ValueResolvers.mapResolver()).build();
+        Template template = engine.parse("{#cached}{counter.next}{/cached}|{#cached}{counter.next}{/cached}");
+        Counter counter = new Counter();
+        assertEquals("1|2", template.render(data(counter, null)));
+        assertEquals("1|2", template.render(data(counter, null)));
+    }
+
+    @Test
+    public void testEviction() {
+        CachedSectionHelper.Factory factory = new CachedSectionHelper.Factory(10);
+        Engine engine = Engine.builder().addDefaultValueResolvers().addSectionHelper(factory)
+                .addValueResolver(ValueResolvers.mapResolver()).build();
+        Template template = engine.parse("{#cached key=lang}{lang}-{counter.next}{/cached}");
+        Counter counter = new Counter();
+        assertEquals("en-1", template.render(data(counter, "en")));
+        assertEquals("cs-2", template.render(data(counter, "cs")));
+        // Make "en" the most recently accessed entry
+        assertEquals("en-1", template.render(data(counter, "en")));
+        assertEquals("de-3", template.render(data(counter, "de")));
+        assertTrue(factory.getCache().getWeight() <= 10);
+        assertEquals(1, factory.getCache().getEvictions());
+        assertEquals("en-1", template.render(data(counter, "en")));
+        assertEquals("cs-4", template.render(data(counter, "cs")));
+    }
+
+    @Test
+    public void testWeight() {
+        CachedSectionHelper.Cache cache = new CachedSectionHelper.Factory(10).getCache();
+        CachedSectionHelper.Key foo = new CachedSectionHelper.Key("foo", "1", "1:1", null);
+        cache.put(foo, new TextNode("foo", null), 3, 0);
+        // Replace the entry
+        cache.put(foo, new TextNode("fooo", null), 4, 0);
+        assertEquals(4, cache.getWeight());
+        assertEquals(1, cache.size());
+        cache.put(new CachedSectionHelper.Key("bar", "2", "1:1", null), new TextNode("barbarbar", null), 9, 0);
+        assertEquals(9, cache.getWeight());
+        assertEquals(1, cache.getEvictions());
+        cache.invalidateAll();
+        assertEquals(0, cache.getWeight());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void testTemplateReloaded() {
+        CachedSectionHelper.Factory factory = new CachedSectionHelper.Factory();
+        AtomicReference<String> content = new AtomicReference<>("{#cached}v1:{counter.next}{/cached}");
+        Engine engine = Engine.builder().addDefaultValueResolvers().addSectionHelper(factory)
+                .addValueResolver(ValueResolvers.mapResolver())
+                .addLocator(id -> !"foo".equals(id) ? Optional.empty() : Optional.of(new TemplateLocation() {
+
+                    @Override
+                    public Reader read() {
+                        return new StringReader(content.get());
+                    }
+
+                    @Override
+                    public Optional<Variant> getVariant() {
+                        return Optional.empty();
+                    }
+
+                }))
+                .build();
+        Counter counter = new Counter();
+        assertEquals("v1:1", engine.getTemplate("foo").render(data(counter, null)));
+        assertEquals("v1:1", engine.getTemplate("foo").render(data(counter, null)));
+        assertEquals(1, factory.getCache().size());
+
+        // E.g. a template modified in the dev mode
+        content.set("{#cached}v2:{counter.next}{/cached}");
+        engine.removeTemplates("foo"::equals);
+        assertEquals(0, factory.getCache().size());
+        assertEquals("v2:2", engine.getTemplate("foo").render(data(counter, null)));
+
+        engine.putTemplate("foo", engine.parse("{#cached}v3:{counter.next}{/cached}"));
+        assertEquals(0, factory.getCache().size());
+        assertEquals("v3:3", engine.getTemplate("foo").render(data(counter, null)));
+
+        engine.clearTemplates();
+        assertEquals(0, factory.getCache().size());
+    }
+
+    @Test
+    public void testTtl() throws InterruptedException {
+        Engine engine = Engine.builder().addDefaultValueResolvers().addSectionHelper(new CachedSectionHelper.Factory())
+                .addValueResolver(ValueResolvers.mapResolver()).build();
+        Template template = engine.parse("{#cached ttl=10}{counter.next}{/cached}");
+        Counter counter = new Counter();
+        assertEquals("1", template.render(data(counter, null)));
+        Thread.sleep(20);
+        assertEquals("2", template.render(data(counter, null)));
+    }
+
+    @Test
+    public void testInvalidTtl() {
+        Engine engine = Engine.builder().addDefaultValueResolvers().addSectionHelper(new CachedSectionHelper.Factory())
+                .build();
+        try {
+            engine.parse("{#cached ttl=foo}{name}{/cached}");
+            fail();
+        } catch (TemplateException expected) {
+            assertTrue(expected.getMessage().contains("Invalid ttl [foo]"), expected.getMessage());
+        }
+    }
+
+    private Map<String, Object> data(Counter counter, String lang) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("counter", counter);
+        data.put("lang", lang);
+        return data;
+    }
+
+    static class Counter implements Mapper {
+
+        private final AtomicInteger value = new AtomicInteger();
+
+        @Override
+        public Object get(String key) {
+            return "next".equals(key) ? value.incrementAndGet() : Results.NOT_FOUND;
+        }
+
+    }
+
+}
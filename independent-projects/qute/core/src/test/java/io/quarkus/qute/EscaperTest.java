@@ -21,6 +21,24 @@ public class EscaperTest {
                 .add('&', "&amp;").add('<', "&lt;").add('>', "&gt;").build();
         assertEquals("&lt;strong&gt;Čolek&lt;/strong&gt;", html.escape("<strong>Čolek</strong>"));
         assertEquals("&lt;a&gt;&amp;link&quot;&#39;&lt;/a&gt;", html.escape("<a>&link\"'</a>"));
+        assertEquals("", html.escape(""));
+        assertEquals("&lt;&lt;&gt;&gt;", html.escape("<<>>"));
+    }
+
+    @Test
+    public void testEscapingNonAscii() {
+        Escaper escaper = Escaper.builder().add('Č', "C").add('<', "&lt;").build();
+        assertEquals("Colek&lt;", escaper.escape("Čolek<"));
+        assertEquals("žluťoučký", escaper.escape("žluťoučký"));
+    }
+
+    @Test
+    public void testEscapingToAppendable() throws IOException {
+        Escaper html = Escaper.builder().add('&', "&amp;").add('<', "&lt;").add('>', "&gt;").build();
+        StringBuilder builder = new StringBuilder("foo:");
+        html.escape("<a>&link</a>", builder);
+        html.escape("|no escape", builder);
+        assertEquals("foo:&lt;a&gt;&amp;link&lt;/a&gt;|no escape", builder.toString());
     }
 
     @Test
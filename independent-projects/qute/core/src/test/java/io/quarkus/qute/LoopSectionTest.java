@@ -1,13 +1,19 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.Test;
 
 public class LoopSectionTest {
@@ -102,4 +108,163 @@ public class LoopSectionTest {
                 engine.parse(template).render(data));
     }
 
+    @Test
+    public void testBatchResolver() {
+        List<List<Object>> batches = new ArrayList<>();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new BatchValueResolver() {
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return context.getBase() instanceof String && context.getName().equals("price");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                throw new AssertionError("The price should be prefetched");
+            }
+
+            @Override
+            public CompletionStage<List<Object>> resolveAll(List<Object> bases, String name) {
+                if (!name.equals("price")) {
+                    return null;
+                }
+                batches.add(bases);
+                List<Object> prices = new ArrayList<>();
+                for (Object base : bases) {
+                    prices.add(base.toString().length());
+                }
+                return CompletableFuture.supplyAsync(() -> prices);
+            }
+
+        }).build();
+
+        Template template = engine.parse("{#for item in items}{item}={item.price}{#if hasNext},{/if}{/for}");
+        assertEquals("foo=3,alpha=5",
+                template.instance().data("items", Arrays.asList("foo", "alpha")).render());
+        assertEquals(1, batches.size());
+        assertEquals(Arrays.asList("foo", "alpha"), batches.get(0));
+    }
+
+    @Test
+    public void testBatchResolverPriority() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new BatchValueResolver() {
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return context.getBase() instanceof String && context.getName().equals("price");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                return CompletedStage.of(0);
+            }
+
+            @Override
+            public CompletionStage<List<Object>> resolveAll(List<Object> bases, String name) {
+                List<Object> prices = new ArrayList<>();
+                for (Object base : bases) {
+                    prices.add(base.toString().length());
+                }
+                return CompletedStage.of(prices);
+            }
+
+        }).addValueResolver(new ValueResolver() {
+
+            @Override
+            public int getPriority() {
+                return 10;
+            }
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return "foo".equals(context.getBase()) && context.getName().equals("price");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                return CompletedStage.of("free");
+            }
+
+        }).build();
+
+        // The resolver with higher priority wins over the prefetched value
+        assertEquals("foo=free,alpha=5", engine.parse("{#for item in items}{item}={item.price}{#if hasNext},{/if}{/for}")
+                .instance().data("items", Arrays.asList("foo", "alpha")).render());
+    }
+
+    @Test
+    public void testAsyncExecutor() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger inProgress = new AtomicInteger();
+        AtomicInteger maxInProgress = new AtomicInteger();
+        try {
+            Engine engine = Engine.builder().addDefaults().setAsyncExecutor(executor, 2)
+                    .addValueResolver(new ValueResolver() {
+
+                        @Override
+                        public boolean appliesTo(EvalContext context) {
+                            return context.getBase() instanceof Integer && context.getName().equals("remote");
+                        }
+
+                        @Override
+                        public CompletionStage<Object> resolve(EvalContext context) {
+                            int current = inProgress.incrementAndGet();
+                            maxInProgress.accumulateAndGet(current, Math::max);
+                            return CompletableFuture.supplyAsync(() -> {
+                                try {
+                                    Thread.sleep(10);
+                                } catch (InterruptedException e) {
+                                    Thread.currentThread().interrupt();
+                                }
+                                inProgress.decrementAndGet();
+                                return "r" + context.getBase();
+                            });
+                        }
+
+                    }).build();
+            Template template = engine.parse("{#for i in items}{i.remote}{/for}");
+            assertEquals("r1r2r3r4r5r6",
+                    template.instance().data("items", Arrays.asList(1, 2, 3, 4, 5, 6)).render());
+            assertEquals(6, engine.getAsyncResolutionCount());
+            assertEquals(0, engine.getQueuedResolutionCount());
+            assertTrue(maxInProgress.get() <= 2, "Max in progress: " + maxInProgress.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testAsyncExecutorSyncResolution() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CompletableFuture<Object> remote = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+        try {
+            Engine engine = Engine.builder().addDefaults().setAsyncExecutor(executor, 1)
+                    .addValueResolver(new ValueResolver() {
+
+                        @Override
+                        public boolean appliesTo(EvalContext context) {
+                            return context.getName().equals("remote");
+                        }
+
+                        @Override
+                        public CompletionStage<Object> resolve(EvalContext context) {
+                            return calls.incrementAndGet() == 1 ? remote : CompletedStage.of("r2");
+                        }
+
+                    }).build();
+            Map<String, String> item = new HashMap<>();
+            item.put("name", "Lu");
+            CompletionStage<String> result = engine.parse("{item.remote}:{item.remote}:{item.name}").instance()
+                    .data("item", item).renderAsync();
+            // Only the second resolution of the async resolver is queued, the map lookup is not
+            assertEquals(1, engine.getQueuedResolutionCount());
+            remote.complete("r1");
+            assertEquals("r1:r2:Lu", result.toCompletableFuture().get(5, TimeUnit.SECONDS));
+            assertEquals(0, engine.getQueuedResolutionCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
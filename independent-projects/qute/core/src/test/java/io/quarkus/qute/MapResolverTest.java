@@ -4,6 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Test;
 
 public class MapResolverTest {
@@ -23,4 +28,19 @@ public class MapResolverTest {
                         .render(map));
     }
 
+    @Test
+    public void testMapResolverWithAsyncExecutor() throws InterruptedException, ExecutionException, TimeoutException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Engine engine = Engine.builder().addDefaults().setAsyncExecutor(executor, 1).build();
+            Map<String, String> map = new HashMap<>();
+            map.put("name", "Lu");
+            // The param is evaluated while the map resolver holds the only permit
+            assertEquals("Lu", engine.parse("{map.get(key)}").instance().data("map", map).data("key", "name")
+                    .renderAsync().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
@@ -147,6 +147,15 @@ public class ParserTest {
                 "Parser error on line 1: unterminated string literal or composite parameter detected for [#if (foo || bar]", 1);
     }
 
+    @Test
+    public void testAdjacentTextNodesMerged() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().build();
+        TemplateImpl template = (TemplateImpl) engine.parse("Hello {! comment !}world{@java.lang.String foo}!");
+        List<TemplateNode> nodes = template.root.blocks.get(0).nodes;
+        assertEquals(1, nodes.size());
+        assertEquals("Hello world!", ((TextNode) nodes.get(0)).getValue());
+    }
+
     private void assertParserError(String template, String message, int line) {
         Engine engine = Engine.builder().addDefaultSectionHelpers().build();
         try {
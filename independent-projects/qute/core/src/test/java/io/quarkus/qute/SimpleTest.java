@@ -1,15 +1,25 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import org.junit.jupiter.api.Test;
 
@@ -189,4 +199,175 @@ public class SimpleTest {
                         .render(Collections.emptyList()));
     }
 
+    @Test
+    public void testSyncRendering() {
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "world");
+        data.put("list", ImmutableList.of("a", "b"));
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Hello {name}!{#for item in list}{item}{/for}");
+        // All the data are available - no future should be involved
+        CompletionStage<String> result = template.instance().data(data).renderAsync();
+        assertTrue(result instanceof CompletedStage);
+        assertEquals("Hello world!ab", CompletedStage.getNow(result));
+    }
+
+    @Test
+    public void testAsyncResolverFallback() {
+        CompletableFuture<Object> name = new CompletableFuture<>();
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ValueResolver() {
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return context.getName().equals("name");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                return name;
+            }
+
+        }).build();
+        Template template = engine.parse("Hello {name}!{#for item in list}{item}{/for}");
+        CompletionStage<String> result = template.instance().data("list", ImmutableList.of("a", "b")).renderAsync();
+        assertFalse(CompletedStage.isCompleted(result));
+        name.complete("world");
+        assertEquals("Hello world!ab", result.toCompletableFuture().join());
+    }
+
+    @Test
+    public void testRenderTo() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Hello {name}!{#for item in list}{item}{/for}");
+        StringWriter writer = new StringWriter();
+        template.instance().data("name", "world").data("list", ImmutableList.of("a", "b")).renderTo(writer)
+                .toCompletableFuture().join();
+        assertEquals("Hello world!ab", writer.toString());
+
+        CompletionStage<Void> failure = template.instance().data("name", "world").data("list", ImmutableList.of())
+                .renderTo(new Appendable() {
+
+                    @Override
+                    public Appendable append(CharSequence csq, int start, int end) throws IOException {
+                        throw new IOException("Closed");
+                    }
+
+                    @Override
+                    public Appendable append(char c) throws IOException {
+                        throw new IOException("Closed");
+                    }
+
+                    @Override
+                    public Appendable append(CharSequence csq) throws IOException {
+                        throw new IOException("Closed");
+                    }
+                });
+        try {
+            failure.toCompletableFuture().join();
+            fail();
+        } catch (CompletionException expected) {
+            assertTrue(expected.getCause() instanceof UncheckedIOException);
+        }
+    }
+
+    @Test
+    public void testRenderToOutputStream() throws IOException {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Příliš {name}!");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        template.instance().data("name", "žluťoučký").renderBytesTo(out).toCompletableFuture().join();
+        assertEquals("Příliš žluťoučký!", new String(out.toByteArray(), StandardCharsets.UTF_8));
+
+        // A print stream is both an OutputStream and an Appendable
+        out.reset();
+        PrintStream printStream = new PrintStream(out, true, "UTF-8");
+        template.instance().data("name", "world").renderTo(printStream).toCompletableFuture().join();
+        template.instance().data("name", "world").renderBytesTo(printStream).toCompletableFuture().join();
+        assertEquals("Příliš world!Příliš world!", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testResolve() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("Příliš {name}!");
+        ResultNode result = template.instance().data("name", "žluťoučký").resolve().toCompletableFuture().join();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        result.process(new OutputStreamConsumer(out));
+        assertEquals("Příliš žluťoučký!", new String(out.toByteArray(), StandardCharsets.UTF_8));
+        StringBuilder builder = new StringBuilder();
+        result.process(builder::append);
+        assertEquals("Příliš žluťoučký!", builder.toString());
+    }
+
+    @Test
+    public void testResolverAppliesToValue() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ValueResolver() {
+
+            @Override
+            public int getPriority() {
+                return 10;
+            }
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                // Depends on the value, not only on the class of the base object
+                return context.getBase() instanceof Map && ((Map<?, ?>) context.getBase()).containsKey("special");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                return CompletableFuture.completedFuture("special");
+            }
+
+        }).build();
+        Template template = engine.parse("{#for item in items}{item.name}:{/for}");
+        Map<String, String> foo = new HashMap<>();
+        foo.put("name", "foo");
+        Map<String, String> special = new HashMap<>();
+        special.put("name", "bar");
+        special.put("special", "true");
+        assertEquals("foo:special:foo:",
+                template.render(Collections.singletonMap("items", ImmutableList.of(foo, special, foo))));
+    }
+
+    @Test
+    public void testResolverPriority() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new FooResolver(5, Object.class, "low"))
+                .addValueResolver(new FooResolver(10, Integer.class, "high")).build();
+        Template template = engine.parse("{#for item in items}{item.foo}:{/for}");
+        // The lower priority resolver must not be used for an Integer although it applied to the previous element
+        assertEquals("low:high:low:high:",
+                template.render(Collections.singletonMap("items", ImmutableList.<Object> of("a", 1, "b", 2))));
+        assertEquals("high:low:", template.render(Collections.singletonMap("items", ImmutableList.<Object> of(3, "c"))));
+    }
+
+    static class FooResolver implements ValueResolver {
+
+        private final int priority;
+        private final Class<?> baseClass;
+        private final String result;
+
+        FooResolver(int priority, Class<?> baseClass, String result) {
+            this.priority = priority;
+            this.baseClass = baseClass;
+            this.result = result;
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public boolean appliesTo(EvalContext context) {
+            return ValueResolver.matchClass(context, baseClass) && context.getName().equals("foo");
+        }
+
+        @Override
+        public CompletionStage<Object> resolve(EvalContext context) {
+            return CompletedStage.of(result);
+        }
+
+    }
+
 }